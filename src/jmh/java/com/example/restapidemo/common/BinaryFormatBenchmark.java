@@ -0,0 +1,122 @@
+package com.example.restapidemo.common;
+
+import com.example.restapidemo.events.Event;
+import com.example.restapidemo.events.EventDto;
+import com.example.restapidemo.events.EventResource;
+import com.example.restapidemo.events.EventStatus;
+import com.example.restapidemo.events.EventValidator;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 같은 HAL 모델(이벤트 20개 목록, 400 오류 본문)을 JSON, CBOR, Smile 로 직렬화하는 비용.
+ * 본문 크기는 셋업에서 한 번 출력한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BinaryFormatBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    private ObjectMapper objectMapper;
+    private CollectionModel<EventResource> events;
+    private EntityModel<Errors> errors;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        RequestContextHolder.setRequestAttributes(
+                new ServletRequestAttributes(new MockHttpServletRequest("GET", "/api/events")));
+        objectMapper = HalObjectMapper.create(jsonFactory(format));
+
+        List<EventResource> resources = IntStream.rangeClosed(1, PAGE_SIZE)
+                .mapToObj(id -> new EventResource(event(id)))
+                .collect(Collectors.toList());
+        events = CollectionModel.of(resources);
+        events.add(ApiLinks.profile("resources-query-events"));
+
+        EventDto eventDto = EventDto.builder()
+                .name("Spring")
+                .description("REST API Development with Spring")
+                .beginEnrollmentDateTime(LocalDateTime.of(2020, 10, 12, 11, 7))
+                .closeEnrollmentDateTime(LocalDateTime.of(2020, 9, 13, 11, 7))
+                .beginEventDateTime(LocalDateTime.of(2020, 9, 14, 11, 7))
+                .endEventDateTime(LocalDateTime.of(2020, 8, 15, 11, 7))
+                .basePrice(10000)
+                .maxPrice(200)
+                .limitOfEnrollment(100)
+                .build();
+        Errors bindingResult = new BeanPropertyBindingResult(eventDto, "eventDto");
+        new EventValidator().validate(eventDto, bindingResult);
+        errors = ErrorsResource.modelOf(bindingResult);
+
+        System.out.printf("%n%s payload: events=%d bytes, errors=%d bytes%n",
+                format, serializeEvents().length, serializeErrors().length);
+    }
+
+    @TearDown
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Benchmark
+    public byte[] serializeEvents() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(events);
+    }
+
+    @Benchmark
+    public byte[] serializeErrors() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(errors);
+    }
+
+    private static JsonFactory jsonFactory(String format) {
+        switch (format) {
+            case "cbor":
+                return new CBORFactory();
+            case "smile":
+                return new SmileFactory();
+            default:
+                return new JsonFactory();
+        }
+    }
+
+    private static Event event(int id) {
+        return Event.builder()
+                .id(id)
+                .name("Event" + id)
+                .description("Test Event")
+                .beginEnrollmentDateTime(LocalDateTime.of(2020, 10, 12, 11, 7))
+                .closeEnrollmentDateTime(LocalDateTime.of(2020, 10, 13, 11, 7))
+                .beginEventDateTime(LocalDateTime.of(2020, 10, 14, 11, 7))
+                .endEventDateTime(LocalDateTime.of(2020, 10, 15, 11, 7))
+                .limitOfEnrollment(100)
+                .location("강남역 D2 스타텁 팩토리")
+                .offline(true)
+                .free(true)
+                .eventStatus(EventStatus.DRAFT)
+                .build();
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.restapidemo.common;
+
+import com.example.restapidemo.events.EventDto;
+import com.example.restapidemo.events.EventValidator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 잘못된 이벤트 생성 요청에 대한 400 응답 본문 생성 비용
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ErrorsSerializerBenchmark {
+
+    private ObjectMapper objectMapper;
+    private EntityModel<Errors> errorsModel;
+
+    @Setup
+    public void setUp() {
+        RequestContextHolder.setRequestAttributes(
+                new ServletRequestAttributes(new MockHttpServletRequest("POST", "/api/events")));
+        objectMapper = HalObjectMapper.create();
+
+        EventDto eventDto = EventDto.builder()
+                .name("Spring")
+                .description("REST API Development with Spring")
+                .beginEnrollmentDateTime(LocalDateTime.of(2020, 10, 12, 11, 7))
+                .closeEnrollmentDateTime(LocalDateTime.of(2020, 9, 13, 11, 7))
+                .beginEventDateTime(LocalDateTime.of(2020, 9, 14, 11, 7))
+                .endEventDateTime(LocalDateTime.of(2020, 8, 15, 11, 7))
+                .basePrice(10000)
+                .maxPrice(200)
+                .limitOfEnrollment(100)
+                .build();
+        Errors errors = new BeanPropertyBindingResult(eventDto, "eventDto");
+        new EventValidator().validate(eventDto, errors);
+        errorsModel = ErrorsResource.modelOf(errors);
+    }
+
+    @TearDown
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Benchmark
+    public EntityModel<Errors> errorsResource() {
+        return ErrorsResource.modelOf(errorsModel.getContent());
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(errorsModel);
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.restapidemo.common;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.hateoas.mediatype.MessageResolver;
+import org.springframework.hateoas.mediatype.hal.CurieProvider;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule;
+import org.springframework.hateoas.server.core.AnnotationLinkRelationProvider;
+import org.springframework.validation.Errors;
+
+/**
+ * 벤치마크용 ObjectMapper. 애플리케이션 컨텍스트 없이 스프링 부트와 같은 HAL 출력 설정을 구성한다.
+ */
+public final class HalObjectMapper {
+
+    private HalObjectMapper() {
+    }
+
+    public static ObjectMapper create() {
+        return create(new JsonFactory());
+    }
+
+    public static ObjectMapper create(JsonFactory jsonFactory) {
+        ObjectMapper objectMapper = new ObjectMapper(jsonFactory);
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        objectMapper.registerModule(new Jackson2HalModule());
+        objectMapper.setHandlerInstantiator(new Jackson2HalModule.HalHandlerInstantiator(
+                new AnnotationLinkRelationProvider(), CurieProvider.NONE, MessageResolver.DEFAULTS_ONLY));
+        objectMapper.registerModule(new SimpleModule().addSerializer(Errors.class, new ErrorsSerializer()));
+        return objectMapper;
+    }
+}
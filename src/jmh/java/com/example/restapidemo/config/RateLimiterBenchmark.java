@@ -0,0 +1,56 @@
+package com.example.restapidemo.config;
+
+import com.example.restapidemo.accounts.AccountRole;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 하나당 요청 제한 비용. 이미 버킷이 있는 사용자/IP 로 토큰을 얻는 경로를 단일 스레드와 경합 상황에서 잰다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RateLimiterBenchmark {
+
+    private RateLimiter rateLimiter;
+
+    @Setup
+    public void setUp() {
+        RateLimitProperties.Limit limit = new RateLimitProperties.Limit();
+        // 측정 중에 거부되지 않도록 충분히 크게 잡는다.
+        limit.setCapacity(Integer.MAX_VALUE);
+        limit.setRefillPerSecond(1_000_000_000);
+        RateLimitProperties.Quota quota = new RateLimitProperties.Quota();
+        quota.setRead(limit);
+        quota.setWrite(limit);
+
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setAnonymous(quota);
+        properties.setRoles(Map.of(AccountRole.USER, quota));
+        rateLimiter = new RateLimiter(properties, username -> Set.of(AccountRole.USER));
+        rateLimiter.acquire("user@email.com", "10.0.0.1", false);
+        rateLimiter.acquire(null, "10.0.0.1", false);
+    }
+
+    @Benchmark
+    public long user() {
+        return rateLimiter.acquire("user@email.com", "10.0.0.1", false);
+    }
+
+    @Benchmark
+    public long anonymous() {
+        return rateLimiter.acquire(null, "10.0.0.1", true);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long userContended() {
+        return rateLimiter.acquire("user@email.com", "10.0.0.1", false);
+    }
+}
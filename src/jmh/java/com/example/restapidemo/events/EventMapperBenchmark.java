@@ -0,0 +1,65 @@
+package com.example.restapidemo.events;
+
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EventController 가 사용하던 ModelMapper 와 EventMapper 의 매핑 비용 비교
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EventMapperBenchmark {
+
+    private ModelMapper modelMapper;
+    private EventMapper eventMapper;
+    private EventDto eventDto;
+    private Event event;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+        eventMapper = new EventMapper();
+        eventDto = EventDto.builder()
+                .name("Spring")
+                .description("REST API Development with Spring")
+                .beginEnrollmentDateTime(LocalDateTime.of(2020, 10, 12, 11, 7))
+                .closeEnrollmentDateTime(LocalDateTime.of(2020, 10, 13, 11, 7))
+                .beginEventDateTime(LocalDateTime.of(2020, 10, 14, 11, 7))
+                .endEventDateTime(LocalDateTime.of(2020, 10, 15, 11, 7))
+                .basePrice(100)
+                .maxPrice(200)
+                .limitOfEnrollment(100)
+                .location("강남역 D2 스타텁 팩토리")
+                .build();
+        event = new Event();
+    }
+
+    @Benchmark
+    public Event modelMapperCreate() {
+        return modelMapper.map(eventDto, Event.class);
+    }
+
+    @Benchmark
+    public Event eventMapperCreate() {
+        return eventMapper.toEvent(eventDto);
+    }
+
+    @Benchmark
+    public Event modelMapperUpdate() {
+        modelMapper.map(eventDto, event);
+        return event;
+    }
+
+    @Benchmark
+    public Event eventMapperUpdate() {
+        eventMapper.update(eventDto, event);
+        return event;
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.restapidemo.events;
+
+import com.example.restapidemo.common.ApiLinks;
+import com.example.restapidemo.common.HalObjectMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * EventResource 생성(링크 포함)과 HAL 직렬화 비용
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EventResourceBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    private ObjectMapper objectMapper;
+    private Event event;
+    private List<EventSummary> eventSummaries;
+    private EventResource eventResource;
+    private PagedModel<EntityModel<EventSummary>> pagedModel;
+
+    @Setup
+    public void setUp() {
+        RequestContextHolder.setRequestAttributes(
+                new ServletRequestAttributes(new MockHttpServletRequest("GET", "/api/events")));
+        objectMapper = HalObjectMapper.create();
+        event = event(1);
+        eventSummaries = IntStream.rangeClosed(1, PAGE_SIZE)
+                .mapToObj(this::eventSummary)
+                .collect(Collectors.toList());
+        eventResource = eventResource();
+        pagedModel = pagedModel();
+    }
+
+    @TearDown
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Benchmark
+    public EventResource eventResource() {
+        EventResource eventResource = new EventResource(event);
+        eventResource.add(ApiLinks.profile("resources-events-get"));
+        return eventResource;
+    }
+
+    @Benchmark
+    public PagedModel<EntityModel<EventSummary>> pagedModel() {
+        List<EntityModel<EventSummary>> content = eventSummaries.stream()
+                .map(e -> EntityModel.of(e, ApiLinks.eventLink(e.getId(), IanaLinkRelations.SELF)))
+                .collect(Collectors.toList());
+        PagedModel<EntityModel<EventSummary>> model =
+                PagedModel.of(content, new PagedModel.PageMetadata(PAGE_SIZE, 0, 100));
+        model.add(ApiLinks.profile("resources-query-events"));
+        return model;
+    }
+
+    @Benchmark
+    public byte[] serializeEventResource() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(eventResource);
+    }
+
+    @Benchmark
+    public byte[] serializePagedModel() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(pagedModel);
+    }
+
+    private Event event(int id) {
+        return Event.builder()
+                .id(id)
+                .name("Event" + id)
+                .description("Test Event")
+                .beginEnrollmentDateTime(LocalDateTime.of(2020, 10, 12, 11, 7))
+                .closeEnrollmentDateTime(LocalDateTime.of(2020, 10, 13, 11, 7))
+                .beginEventDateTime(LocalDateTime.of(2020, 10, 14, 11, 7))
+                .endEventDateTime(LocalDateTime.of(2020, 10, 15, 11, 7))
+                .limitOfEnrollment(100)
+                .location("강남역 D2 스타텁 팩토리")
+                .offline(true)
+                .free(true)
+                .eventStatus(EventStatus.DRAFT)
+                .build();
+    }
+
+    private EventSummary eventSummary(int id) {
+        Event e = event(id);
+        return new EventSummary(e.getId(), e.getName(), e.getDescription(),
+                e.getBeginEnrollmentDateTime(), e.getCloseEnrollmentDateTime(),
+                e.getBeginEventDateTime(), e.getEndEventDateTime(), e.getLocation(),
+                e.getBasePrice(), e.getMaxPrice(), e.getLimitOfEnrollment(),
+                e.isOffline(), e.isFree(), e.getEventStatus(), null);
+    }
+}
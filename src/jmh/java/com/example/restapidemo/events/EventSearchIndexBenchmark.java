@@ -0,0 +1,84 @@
+package com.example.restapidemo.events;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이벤트 100만 건을 색인한 EventSearchIndex 의 검색/재색인 비용
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class EventSearchIndexBenchmark {
+
+    private static final int VOCABULARY_SIZE = 50_000;
+
+    @Param("1000000")
+    private int events;
+
+    private EventSearchIndex eventSearchIndex;
+    private String[] vocabulary;
+    private Random random;
+
+    @Setup
+    public void setUp() {
+        random = new Random(42);
+        vocabulary = new String[VOCABULARY_SIZE];
+        for (int i = 0; i < VOCABULARY_SIZE; i++) {
+            vocabulary[i] = Integer.toString(i * 7919, 36) + "word";
+        }
+        eventSearchIndex = new EventSearchIndex(null);
+        for (int id = 1; id <= events; id++) {
+            eventSearchIndex.index(id, words(3), words(12));
+        }
+    }
+
+    private String words(int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            // 앞쪽 단어가 더 자주 나오도록 치우친 분포
+            int index = (int) (Math.pow(random.nextDouble(), 3) * VOCABULARY_SIZE);
+            text.append(vocabulary[index]).append(' ');
+        }
+        return text.toString();
+    }
+
+    @Benchmark
+    public List<Integer> singleTerm() {
+        return eventSearchIndex.search(vocabulary[VOCABULARY_SIZE / 2], 20);
+    }
+
+    @Benchmark
+    public List<Integer> twoTerms() {
+        return eventSearchIndex.search(vocabulary[VOCABULARY_SIZE / 4] + " " + vocabulary[VOCABULARY_SIZE / 3], 20);
+    }
+
+    @Benchmark
+    public List<Integer> prefix() {
+        return eventSearchIndex.search(vocabulary[VOCABULARY_SIZE / 2].substring(0, 3), 20);
+    }
+
+    /**
+     * 치우친 분포에서 가장 자주 나오는 단어
+     */
+    @Benchmark
+    public List<Integer> frequentTerm() {
+        return eventSearchIndex.search(vocabulary[0], 20);
+    }
+
+    @Benchmark
+    public List<Integer> oneLetterPrefix() {
+        return eventSearchIndex.search(vocabulary[VOCABULARY_SIZE / 2].substring(0, 1), 20);
+    }
+
+    @Benchmark
+    public void reindex() {
+        eventSearchIndex.index(random.nextInt(events) + 1, words(3), words(12));
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.restapidemo.events;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EventValidator 검증(전체, 바뀐 필드만)과 Event.update 비용
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EventValidatorBenchmark {
+
+    private static final List<String> CHANGED_FIELDS = List.of("basePrice", "maxPrice", "endEventDateTime");
+
+    private EventValidator eventValidator;
+    private EventDto validEventDto;
+    private EventDto invalidEventDto;
+    private Event event;
+
+    @Setup
+    public void setUp() {
+        eventValidator = new EventValidator();
+        validEventDto = EventDto.builder()
+                .name("Spring")
+                .description("REST API Development with Spring")
+                .beginEnrollmentDateTime(LocalDateTime.of(2020, 10, 12, 11, 7))
+                .closeEnrollmentDateTime(LocalDateTime.of(2020, 10, 13, 11, 7))
+                .beginEventDateTime(LocalDateTime.of(2020, 10, 14, 11, 7))
+                .endEventDateTime(LocalDateTime.of(2020, 10, 15, 11, 7))
+                .basePrice(100)
+                .maxPrice(200)
+                .limitOfEnrollment(100)
+                .build();
+        invalidEventDto = EventDto.builder()
+                .name("Spring")
+                .description("REST API Development with Spring")
+                .beginEnrollmentDateTime(LocalDateTime.of(2020, 10, 12, 11, 7))
+                .closeEnrollmentDateTime(LocalDateTime.of(2020, 9, 13, 11, 7))
+                .beginEventDateTime(LocalDateTime.of(2020, 9, 14, 11, 7))
+                .endEventDateTime(LocalDateTime.of(2020, 8, 15, 11, 7))
+                .basePrice(10000)
+                .maxPrice(200)
+                .limitOfEnrollment(100)
+                .build();
+        event = Event.builder()
+                .basePrice(100)
+                .maxPrice(200)
+                .location("강남역 D2 스타텁 팩토리")
+                .build();
+    }
+
+    @Benchmark
+    public Errors validateValid() {
+        Errors errors = new BeanPropertyBindingResult(validEventDto, "eventDto");
+        eventValidator.validate(validEventDto, errors);
+        return errors;
+    }
+
+    @Benchmark
+    public Errors validateInvalid() {
+        Errors errors = new BeanPropertyBindingResult(invalidEventDto, "eventDto");
+        eventValidator.validate(invalidEventDto, errors);
+        return errors;
+    }
+
+    @Benchmark
+    public Errors validateChangedFields() {
+        Errors errors = new BeanPropertyBindingResult(validEventDto, "eventDto");
+        eventValidator.validate(validEventDto, errors, CHANGED_FIELDS);
+        return errors;
+    }
+
+    @Benchmark
+    public Event update() {
+        event.update();
+        return event;
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.restapidemo.load;
+
+import com.example.restapidemo.accounts.Account;
+import com.example.restapidemo.accounts.AccountRepository;
+import com.example.restapidemo.accounts.AccountRole;
+import com.example.restapidemo.events.EnrollmentSeats;
+import com.example.restapidemo.events.Event;
+import com.example.restapidemo.events.EventRepository;
+import com.example.restapidemo.events.EventSearchIndex;
+import com.example.restapidemo.events.EventStatistics;
+import com.example.restapidemo.events.EventStatus;
+import com.example.restapidemo.events.EventStatusScheduler;
+import org.springframework.context.ApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * 재현 가능한(고정 시드) 계정과 이벤트를 배치 insert 로 채운다.
+ * 애플리케이션이 준비된 뒤에 채우므로, 시작 시 DB 에서 만드는 인메모리 상태(검색 색인, 통계, 좌석, 상태 전이 예약)를 다시 만든다.
+ */
+class LoadDataSeeder {
+
+    private static final int CHUNK_SIZE = 1_000;
+    private static final String[] WORDS = {"Spring", "REST", "API", "JPA", "Kotlin", "Java", "Batch", "Cloud", "Security", "Test"};
+
+    private final AccountRepository accountRepository;
+    private final EventRepository eventRepository;
+    private final EventSearchIndex eventSearchIndex;
+    private final EventStatistics eventStatistics;
+    private final EnrollmentSeats enrollmentSeats;
+    private final EventStatusScheduler eventStatusScheduler;
+    private final Random random = new Random(42);
+
+    LoadDataSeeder(ApplicationContext context) {
+        this.accountRepository = context.getBean(AccountRepository.class);
+        this.eventRepository = context.getBean(EventRepository.class);
+        this.eventSearchIndex = context.getBean(EventSearchIndex.class);
+        this.eventStatistics = context.getBean(EventStatistics.class);
+        this.enrollmentSeats = context.getBean(EnrollmentSeats.class);
+        this.eventStatusScheduler = context.getBean(EventStatusScheduler.class);
+    }
+
+    /**
+     * @return 생성된 이벤트 id 목록
+     */
+    List<Integer> seed(int accountCount, int eventCount) {
+        List<Account> accounts = new ArrayList<>(accountCount);
+        for (int i = 0; i < accountCount; i++) {
+            accounts.add(Account.builder()
+                    .email("load" + i + "@example.com")
+                    .password("{noop}load")
+                    .roles(Set.of(AccountRole.USER))
+                    .build());
+        }
+        accounts = accountRepository.saveAll(accounts);
+
+        List<Integer> ids = new ArrayList<>(eventCount);
+        List<Event> chunk = new ArrayList<>(CHUNK_SIZE);
+        for (int i = 0; i < eventCount; i++) {
+            chunk.add(event(i, accounts.get(i % accounts.size())));
+            if (chunk.size() == CHUNK_SIZE || i == eventCount - 1) {
+                eventRepository.saveAll(chunk).forEach(e -> ids.add(e.getId()));
+                chunk.clear();
+            }
+        }
+        eventSearchIndex.rebuild();
+        eventStatistics.rebuild();
+        enrollmentSeats.rebuild();
+        eventStatusScheduler.load();
+        return ids;
+    }
+
+    private Event event(int index, Account manager) {
+        LocalDateTime begin = LocalDateTime.of(2020, 10, 1, 10, 0).plusHours(random.nextInt(24 * 365));
+        int basePrice = random.nextInt(4) == 0 ? 0 : random.nextInt(100) * 1_000;
+        Event event = Event.builder()
+                .name(WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + index)
+                .description("Load test event " + index + " about " + WORDS[random.nextInt(WORDS.length)])
+                .beginEnrollmentDateTime(begin)
+                .closeEnrollmentDateTime(begin.plusDays(7))
+                .beginEventDateTime(begin.plusDays(14))
+                .endEventDateTime(begin.plusDays(14).plusHours(3))
+                .location(random.nextBoolean() ? "강남역 D2 스타텁 팩토리" : null)
+                .basePrice(basePrice)
+                .maxPrice(basePrice == 0 ? 0 : basePrice * 2)
+                .limitOfEnrollment(10 + random.nextInt(490))
+                .eventStatus(EventStatus.values()[random.nextInt(EventStatus.values().length)])
+                .manager(manager)
+                .build();
+        event.update();
+        return event;
+    }
+}
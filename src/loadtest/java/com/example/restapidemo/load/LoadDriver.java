@@ -0,0 +1,197 @@
+package com.example.restapidemo.load;
+
+import com.example.restapidemo.events.EventDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 목표 처리량(load.rate)으로 요청을 예정 시각에 맞춰 보내는 open-model 부하 발생기.
+ * 지연 시간은 예정 시각부터 재므로 서버가 밀려 요청이 늦게 나간 시간까지 포함한다. (coordinated omission 보정)
+ */
+class LoadDriver {
+
+    private static final long MAX_LATENCY_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final LoadSettings settings;
+    private final String eventsUri;
+    private final List<Integer> eventIds;
+    private final ObjectMapper objectMapper;
+    private final Operation[] schedule;
+    private final HttpClient httpClient;
+    private final ExecutorService httpExecutor;
+
+    LoadDriver(LoadSettings settings, String baseUri, List<Integer> eventIds, ObjectMapper objectMapper) {
+        this.settings = settings;
+        this.eventsUri = baseUri + "/api/events";
+        this.eventIds = eventIds;
+        this.objectMapper = objectMapper;
+        this.schedule = schedule(settings.getMix());
+        this.httpExecutor = Executors.newCachedThreadPool();
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(httpExecutor)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    private static Operation[] schedule(Map<Operation, Integer> mix) {
+        List<Operation> operations = new ArrayList<>();
+        mix.forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                operations.add(operation);
+            }
+        });
+        return operations.toArray(new Operation[0]);
+    }
+
+    LoadReport run(Duration duration) throws Exception {
+        Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+        Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new Recorder(MAX_LATENCY_NANOS, 3));
+            errors.put(operation, new LongAdder());
+        }
+
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / settings.getRate();
+        AtomicLong sequence = new AtomicLong();
+        ExecutorService clients = Executors.newFixedThreadPool(settings.getClients());
+        long allocatedBefore = allocatedBytes();
+        long gcBefore = gcMillis();
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int c = 0; c < settings.getClients(); c++) {
+            futures.add(clients.submit(() -> {
+                while (true) {
+                    long n = sequence.getAndIncrement();
+                    long intended = start + n * intervalNanos;
+                    if (intended - end >= 0) {
+                        return null;
+                    }
+                    long wait = intended - System.nanoTime();
+                    if (wait > 0) {
+                        LockSupport.parkNanos(wait);
+                    }
+                    Operation operation = schedule[ThreadLocalRandom.current().nextInt(schedule.length)];
+                    try {
+                        if (execute(operation) >= 400) {
+                            errors.get(operation).increment();
+                        }
+                    } catch (IOException e) {
+                        errors.get(operation).increment();
+                    }
+                    long latency = Math.min(System.nanoTime() - intended, MAX_LATENCY_NANOS);
+                    recorders.get(operation).recordValue(latency);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsed = System.nanoTime() - start;
+        clients.shutdown();
+
+        Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+        Map<Operation, Long> errorCounts = new EnumMap<>(Operation.class);
+        recorders.forEach((operation, recorder) -> histograms.put(operation, recorder.getIntervalHistogram()));
+        errors.forEach((operation, count) -> errorCounts.put(operation, count.sum()));
+        return new LoadReport(histograms, errorCounts, elapsed, allocatedBytes() - allocatedBefore, gcMillis() - gcBefore);
+    }
+
+    void close() {
+        httpExecutor.shutdown();
+    }
+
+    private int execute(Operation operation) throws IOException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Integer id = eventIds.get(random.nextInt(eventIds.size()));
+        HttpRequest.Builder request;
+        switch (operation) {
+            case CREATE:
+                request = HttpRequest.newBuilder(URI.create(eventsUri))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(eventDto(random))));
+                break;
+            case QUERY:
+                request = HttpRequest.newBuilder(URI.create(eventsUri + "?page=" + random.nextInt(50) + "&size=20"));
+                break;
+            case GET:
+                request = HttpRequest.newBuilder(URI.create(eventsUri + "/" + id));
+                break;
+            case UPDATE:
+                request = HttpRequest.newBuilder(URI.create(eventsUri + "/" + id))
+                        .header("Content-Type", "application/json")
+                        .PUT(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(eventDto(random))));
+                break;
+            default:
+                throw new IllegalArgumentException(operation.name());
+        }
+        try {
+            return httpClient.send(request.build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        }
+    }
+
+    private static EventDto eventDto(ThreadLocalRandom random) {
+        LocalDateTime begin = LocalDateTime.of(2020, 10, 1, 10, 0).plusHours(random.nextInt(24 * 365));
+        return EventDto.builder()
+                .name("Load event " + random.nextInt(1_000_000))
+                .description("Created by the load harness")
+                .beginEnrollmentDateTime(begin)
+                .closeEnrollmentDateTime(begin.plusDays(7))
+                .beginEventDateTime(begin.plusDays(14))
+                .endEventDateTime(begin.plusDays(14).plusHours(3))
+                .basePrice(1_000)
+                .maxPrice(2_000)
+                .limitOfEnrollment(100)
+                .build();
+    }
+
+    /**
+     * 살아 있는 모든 스레드(서버, 클라이언트 포함)가 할당한 바이트 합. 측정 중 종료된 스레드 몫은 빠지므로 근사값이다.
+     */
+    private static long allocatedBytes() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long sum = 0;
+        for (long bytes : threads.getThreadAllocatedBytes(threads.getAllThreadIds())) {
+            if (bytes > 0) {
+                sum += bytes;
+            }
+        }
+        return sum;
+    }
+
+    private static long gcMillis() {
+        long sum = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            sum += Math.max(gc.getCollectionTime(), 0);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.restapidemo.load;
+
+import com.example.restapidemo.DemoApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 인프로세스 부하 테스트. H2 위에 DemoApplication 을 띄우고 데이터를 채운 뒤, 생성/목록/조회/수정 요청을 섞어 목표 처리량으로 보낸다.
+ * ./mvnw -Ploadtest test-compile exec:exec -Dload.events=100000 -Dload.rate=2000
+ * 블로킹/비동기 모드 비교는 -Dload.scenario=async-comparison 으로 실행한다.
+ */
+public final class LoadHarness {
+
+    private LoadHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadSettings settings = new LoadSettings();
+        System.out.println("load settings: " + settings);
+
+        if (settings.getScenario() == LoadSettings.Scenario.ASYNC_COMPARISON) {
+            // 두 모드 모두 같은 톰캣 스레드 수와 Hikari 풀 크기로 띄워 스레드 모델만 다르게 한다.
+            for (boolean async : new boolean[]{false, true}) {
+                System.out.println(async ? "== async (app.async.enabled=true)" : "== blocking");
+                run(settings, args, "loaddb-" + (async ? "async" : "blocking"),
+                        "server.tomcat.threads.max=50",
+                        "spring.datasource.hikari.maximum-pool-size=10",
+                        "app.async.enabled=" + async,
+                        "app.async.queue-capacity=100");
+            }
+        } else {
+            run(settings, args, "loaddb");
+        }
+    }
+
+    private static void run(LoadSettings settings, String[] args, String database, String... extraProperties) throws Exception {
+        List<String> properties = new ArrayList<>(List.of(
+                "server.port=0",
+                "spring.datasource.url=jdbc:h2:mem:" + database,
+                "spring.datasource.hikari.jdbc-url=jdbc:h2:mem:" + database,
+                "spring.datasource.driver-class-name=org.h2.Driver",
+                "spring.datasource.username=sa",
+                "spring.datasource.password=",
+                "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "app.reactive.enabled=false",
+                "app.rate-limit.enabled=false",
+                "logging.level.org.hibernate.SQL=WARN",
+                "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"));
+        properties.addAll(List.of(extraProperties));
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(DemoApplication.class)
+                .properties(properties.toArray(new String[0]))
+                .run(args)) {
+            long seedStart = System.nanoTime();
+            List<Integer> eventIds = new LoadDataSeeder(context).seed(settings.getAccounts(), settings.getEvents());
+            System.out.printf("seeded %d accounts and %d events in %d ms%n", settings.getAccounts(), eventIds.size(),
+                    (System.nanoTime() - seedStart) / 1_000_000);
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            LoadDriver driver = new LoadDriver(settings, "http://localhost:" + port, eventIds, context.getBean(ObjectMapper.class));
+            try {
+                System.out.println("warming up for " + settings.getWarmup());
+                driver.run(settings.getWarmup());
+                System.out.println("measuring for " + settings.getDuration());
+                driver.run(settings.getDuration()).print(System.out);
+            } finally {
+                driver.close();
+            }
+        }
+    }
+}
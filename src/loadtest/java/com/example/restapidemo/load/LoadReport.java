@@ -0,0 +1,54 @@
+package com.example.restapidemo.load;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+class LoadReport {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final Map<Operation, Histogram> histograms;
+    private final Map<Operation, Long> errors;
+    private final long elapsedNanos;
+    private final long allocatedBytes;
+    private final long gcMillis;
+
+    LoadReport(Map<Operation, Histogram> histograms, Map<Operation, Long> errors,
+               long elapsedNanos, long allocatedBytes, long gcMillis) {
+        this.histograms = histograms;
+        this.errors = errors;
+        this.elapsedNanos = elapsedNanos;
+        this.allocatedBytes = allocatedBytes;
+        this.gcMillis = gcMillis;
+    }
+
+    void print(PrintStream out) {
+        double seconds = elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1);
+        Histogram total = new Histogram(3);
+        out.printf("%-8s %10s %8s %10s %9s %9s %9s %9s %9s%n",
+                "op", "requests", "errors", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)");
+        histograms.forEach((operation, histogram) -> {
+            total.add(histogram);
+            print(out, operation.name().toLowerCase(), histogram, errors.get(operation), seconds);
+        });
+        print(out, "total", total, errors.values().stream().mapToLong(Long::longValue).sum(), seconds);
+        out.printf("allocation rate: %.1f MB/s (all threads, approximate), GC time: %d ms over %.1f s%n",
+                allocatedBytes / seconds / (1024 * 1024), gcMillis, seconds);
+    }
+
+    private static void print(PrintStream out, String name, Histogram histogram, long errors, double seconds) {
+        out.printf("%-8s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                name,
+                histogram.getTotalCount(),
+                errors,
+                histogram.getTotalCount() / seconds,
+                histogram.getValueAtPercentile(50) / NANOS_PER_MILLI,
+                histogram.getValueAtPercentile(90) / NANOS_PER_MILLI,
+                histogram.getValueAtPercentile(99) / NANOS_PER_MILLI,
+                histogram.getValueAtPercentile(99.9) / NANOS_PER_MILLI,
+                histogram.getMaxValue() / NANOS_PER_MILLI);
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.restapidemo.load;
+
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정. 모두 시스템 속성(load.*)으로 바꿀 수 있다.
+ */
+@Getter
+class LoadSettings {
+
+    private final int events = Integer.getInteger("load.events", 10_000);
+    private final int accounts = Integer.getInteger("load.accounts", 100);
+    private final int rate = Integer.getInteger("load.rate", 1_000);
+    private final int clients = Integer.getInteger("load.clients", 64);
+    private final Duration warmup = Duration.parse(System.getProperty("load.warmup", "PT10S"));
+    private final Duration duration = Duration.parse(System.getProperty("load.duration", "PT30S"));
+    private final Map<Operation, Integer> mix = parseMix(System.getProperty("load.mix", "create=5,query=25,get=60,update=10"));
+    private final Scenario scenario = Scenario.valueOf(System.getProperty("load.scenario", "mixed").trim().toUpperCase().replace('-', '_'));
+
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : mix.split(",")) {
+            String[] pair = entry.trim().split("=");
+            weights.put(Operation.valueOf(pair[0].trim().toUpperCase()), Integer.parseInt(pair[1].trim()));
+        }
+        return weights;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("events=%d accounts=%d rate=%d/s clients=%d warmup=%s duration=%s mix=%s scenario=%s",
+                events, accounts, rate, clients, warmup, duration, mix, scenario);
+    }
+
+    /**
+     * mixed: 기본 설정으로 한 번 실행한다.
+     * async_comparison: 같은 톰캣 스레드 수와 Hikari 풀 크기로 블로킹 모드와 비동기 모드(app.async.enabled)를 차례로 실행한다.
+     */
+    enum Scenario {
+        MIXED, ASYNC_COMPARISON
+    }
+}
@@ -0,0 +1,5 @@
+package com.example.restapidemo.load;
+
+enum Operation {
+    CREATE, QUERY, GET, UPDATE
+}
@@ -2,8 +2,10 @@ package com.example.restapidemo;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
 
-@SpringBootApplication
+// R2DBC ConnectionFactory 빈이 있으면 DataSource 자동 구성이 물러나므로, 읽기 전용 리액티브 API 는 ReactiveEventServer 가 직접 만든다.
+@SpringBootApplication(exclude = R2dbcAutoConfiguration.class)
 public class DemoApplication {
 
     public static void main(String[] args) {
@@ -1,12 +1,16 @@
 package com.example.restapidemo.accounts;
 
 import lombok.*;
-import org.springframework.web.bind.annotation.GetMapping;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 import java.util.Set;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "account")
+@EntityListeners(AccountCacheEvictor.class)
 @Getter
 @EqualsAndHashCode(of = "id")
 @Builder @NoArgsConstructor @AllArgsConstructor
@@ -16,7 +20,13 @@ public class Account {
     private String email;
     private String password;
 
-    @ElementCollection(fetch = FetchType.EAGER)
+    @ElementCollection
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "account-roles")
     @Enumerated(value = EnumType.STRING)
     private Set<AccountRole> roles;
+
+    // 로드 시점의 이메일. 이메일이 바뀌면 AccountCacheEvictor 가 이전 키도 캐시에서 지운다.
+    @Transient
+    @Getter(AccessLevel.PACKAGE) @Setter(AccessLevel.PACKAGE)
+    private String loadedEmail;
 }
@@ -0,0 +1,55 @@
+package com.example.restapidemo.accounts;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import javax.persistence.PostLoad;
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+/**
+ * 계정이 바뀌면 커밋 이후 AccountService 의 UserDetails 캐시에서 제거한다.
+ * 이메일이 바뀐 경우 이전 이메일로 캐시된 항목이 남지 않도록 로드 시점의 이메일도 함께 제거한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AccountCacheEvictor {
+
+    // EntityManagerFactory 생성 중에 만들어지므로 AccountService 는 처음 사용할 때 가져온다.
+    private final ObjectProvider<AccountService> accountService;
+
+    @PostLoad
+    public void remember(Account account) {
+        account.setLoadedEmail(account.getEmail());
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void evict(Account account) {
+        Set<String> emails = new LinkedHashSet<>();
+        if (account.getLoadedEmail() != null) {
+            emails.add(account.getLoadedEmail());
+        }
+        emails.add(account.getEmail());
+        account.setLoadedEmail(account.getEmail());
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            emails.forEach(accountService.getObject()::evict);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+            @Override
+            public void afterCommit() {
+                emails.forEach(accountService.getObject()::evict);
+            }
+        });
+    }
+}
@@ -1,14 +1,23 @@
 package com.example.restapidemo.accounts;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.QueryHint;
 import java.util.Optional;
 
+/**
+ * findByEmail 이 읽기 전용 트랜잭션으로 실행되어 복제본에서 읽도록 읽기 전용 트랜잭션을 기본으로 건다.
+ */
 @Repository
+@Transactional(readOnly = true)
 public interface AccountRepository extends JpaRepository<Account, Long> {
 
+    @EntityGraph(attributePaths = "roles")
+    @QueryHints(@QueryHint(name = org.hibernate.annotations.QueryHints.CACHEABLE, value = "true"))
     Optional<Account> findByEmail(String username);
 
 }
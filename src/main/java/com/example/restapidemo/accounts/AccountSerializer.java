@@ -0,0 +1,20 @@
+package com.example.restapidemo.accounts;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
+
+/**
+ * 이벤트 응답에는 매니저의 id 만 노출한다. 지연 로딩 프록시를 초기화하지 않는다.
+ */
+public class AccountSerializer extends JsonSerializer<Account> {
+
+    @Override
+    public void serialize(Account account, JsonGenerator gen, SerializerProvider serializerProvider) throws IOException {
+        gen.writeStartObject();
+        gen.writeNumberField("id", account.getId());
+        gen.writeEndObject();
+    }
+}
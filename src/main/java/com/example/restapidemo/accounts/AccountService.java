@@ -1,6 +1,13 @@
 package com.example.restapidemo.accounts;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
@@ -9,17 +16,84 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Service
-public class AccountService implements UserDetailsService {
+public class AccountService implements UserDetailsService, MeterBinder {
+
+    private static final Map<AccountRole, GrantedAuthority> AUTHORITIES = new EnumMap<>(AccountRole.class);
+    private static final Map<GrantedAuthority, AccountRole> ROLES = new HashMap<>();
+
+    static {
+        for (AccountRole role : AccountRole.values()) {
+            AUTHORITIES.put(role, new SimpleGrantedAuthority("ROLE_" + role.name()));
+            ROLES.put(AUTHORITIES.get(role), role);
+        }
+    }
 
     @Autowired
     AccountRepository accountRepository;
+
+    private final Cache<String, User> userDetailsCache;
+
+    public AccountService(@Value("${app.account.cache.ttl:5m}") Duration ttl,
+                          @Value("${app.account.cache.max-size:10000}") long maxSize) {
+        this.userDetailsCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl.toNanos(), TimeUnit.NANOSECONDS)
+                .recordStats()
+                .build();
+    }
+
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        User user = userDetailsCache.get(username, this::loadUser);
+        // 인증 후 eraseCredentials() 가 캐시된 비밀번호를 지우지 않도록 사본을 돌려준다.
+        return new User(user.getUsername(), user.getPassword(), user.getAuthorities());
+    }
+
+    /**
+     * 캐시된 UserDetails 에서 계정의 역할을 돌려준다. 없는 계정이면 빈 집합이다.
+     */
+    public Set<AccountRole> roles(String username) {
+        User user;
+        try {
+            user = userDetailsCache.get(username, this::loadUser);
+        } catch (UsernameNotFoundException e) {
+            return Set.of();
+        }
+        Set<AccountRole> roles = EnumSet.noneOf(AccountRole.class);
+        for (GrantedAuthority authority : user.getAuthorities()) {
+            AccountRole role = ROLES.get(authority);
+            if (role != null) {
+                roles.add(role);
+            }
+        }
+        return roles;
+    }
+
+    public void evict(String username) {
+        userDetailsCache.invalidate(username);
+    }
+
+    public CacheStats cacheStats() {
+        return userDetailsCache.stats();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, userDetailsCache, "userDetails");
+    }
+
+    private User loadUser(String username) {
         Account account = accountRepository.findByEmail(username).orElseThrow(
                 () -> new UsernameNotFoundException(username));
         return new User(account.getEmail(), account.getPassword(), authorities(account.getRoles()));
@@ -27,7 +101,7 @@ public class AccountService implements UserDetailsService {
 
     private Collection<? extends GrantedAuthority> authorities(Set<AccountRole> roles) {
         return roles.stream()
-                .map(r -> new SimpleGrantedAuthority("ROLE_" + r.name()))
+                .map(AUTHORITIES::get)
                 .collect(Collectors.toSet());
     }
 }
@@ -0,0 +1,101 @@
+package com.example.restapidemo.common;
+
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * API 링크 팩토리. linkTo/methodOn 과 같은 href 를 만들되, base URI 별로 한 번 계산한 템플릿에 id 만 이어 붙인다.
+ * base URI 는 요청마다 한 번만 계산해 요청 속성에 보관한다.
+ */
+public final class ApiLinks {
+
+    public static final String INDEX_PATH = "/api";
+    public static final String EVENTS_PATH = "/api/events";
+
+    private static final String BASE_URI_ATTRIBUTE = ApiLinks.class.getName() + ".baseUri";
+    private static final int MAX_CACHED_BASE_URIS = 64;
+
+    private static final Map<String, Templates> TEMPLATES = new ConcurrentHashMap<>();
+    private static final Map<String, Link> PROFILES = new ConcurrentHashMap<>();
+
+    private ApiLinks() {
+    }
+
+    public static String events() {
+        return templates().events;
+    }
+
+    public static String event(Integer id) {
+        return templates().eventPrefix + id;
+    }
+
+    public static Link eventsLink(String rel) {
+        return Link.of(events(), rel);
+    }
+
+    public static Link eventLink(Integer id, String rel) {
+        return Link.of(event(id), rel);
+    }
+
+    public static Link eventLink(Integer id, LinkRelation rel) {
+        return Link.of(event(id), rel);
+    }
+
+    public static Link indexLink(String rel) {
+        return Link.of(templates().index, rel);
+    }
+
+    /**
+     * REST Docs 문서의 섹션을 가리키는 profile 링크
+     */
+    public static Link profile(String section) {
+        return PROFILES.computeIfAbsent(section, s -> Link.of("/docs/index.html#" + s).withRel("profile"));
+    }
+
+    private static Templates templates() {
+        String baseUri = baseUri();
+        Templates templates = TEMPLATES.get(baseUri);
+        if (templates == null) {
+            templates = new Templates(baseUri);
+            // Host 헤더로 키가 무한히 늘어나지 않도록 상한을 넘으면 캐시하지 않는다.
+            if (TEMPLATES.size() < MAX_CACHED_BASE_URIS) {
+                TEMPLATES.putIfAbsent(baseUri, templates);
+            }
+        }
+        return templates;
+    }
+
+    /**
+     * 현재 요청의 base URI. 요청 밖에서는 빈 문자열이다.
+     */
+    public static String baseUri() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return "";
+        }
+        String baseUri = (String) attributes.getAttribute(BASE_URI_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (baseUri == null) {
+            baseUri = ServletUriComponentsBuilder.fromCurrentServletMapping().toUriString();
+            attributes.setAttribute(BASE_URI_ATTRIBUTE, baseUri, RequestAttributes.SCOPE_REQUEST);
+        }
+        return baseUri;
+    }
+
+    private static class Templates {
+        private final String index;
+        private final String events;
+        private final String eventPrefix;
+
+        Templates(String baseUri) {
+            this.index = baseUri + INDEX_PATH;
+            this.events = baseUri + EVENTS_PATH;
+            this.eventPrefix = events + "/";
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.restapidemo.common;
+
+import org.springframework.http.MediaType;
+
+/**
+ * HAL 모델을 JSON 대신 바이너리로 주고받을 때 쓰는 미디어 타입
+ */
+public final class BinaryMediaTypes {
+
+    public static final String CBOR_VALUE = MediaType.APPLICATION_CBOR_VALUE;
+    public static final MediaType CBOR = MediaType.APPLICATION_CBOR;
+
+    public static final String SMILE_VALUE = "application/x-jackson-smile";
+    public static final MediaType SMILE = MediaType.parseMediaType(SMILE_VALUE);
+
+    private BinaryMediaTypes() {
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.restapidemo.common;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 컨트롤러가 붙인 버전 ETag 를 콘텐츠 협상으로 고른 표현의 태그로 바꾸고 Vary: Accept 를 붙인다.
+ * 본문이 없는 304 는 이 단계를 거치지 않으므로 컨트롤러가 직접 표현별 태그를 붙인다.
+ */
+@ControllerAdvice
+public class EntityTagAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        HttpHeaders headers = response.getHeaders();
+        String eTag = headers.getETag();
+        if (eTag != null) {
+            String representationETag = EntityTags.forRepresentation(eTag, selectedContentType);
+            if (response instanceof ServletServerHttpResponse) {
+                // 조건부 요청 검사(checkNotModified)가 서블릿 응답에 ETag 를 이미 써 두었으므로 그쪽을 덮어써야 중복되지 않는다.
+                headers.remove(HttpHeaders.ETAG);
+                ((ServletServerHttpResponse) response).getServletResponse().setHeader(HttpHeaders.ETAG, representationETag);
+            } else {
+                headers.setETag(representationETag);
+            }
+            varyByAccept(headers);
+        }
+        return body;
+    }
+
+    private static void varyByAccept(HttpHeaders headers) {
+        List<String> vary = new ArrayList<>(headers.getVary());
+        if (vary.stream().noneMatch(HttpHeaders.ACCEPT::equalsIgnoreCase)) {
+            vary.add(HttpHeaders.ACCEPT);
+            headers.setVary(vary);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.restapidemo.common;
+
+import org.springframework.http.MediaType;
+
+/**
+ * 엔티티 @Version 값으로 만드는 strong ETag 와 If-None-Match / If-Match 비교.
+ * 같은 버전이라도 JSON, CBOR, Smile 응답은 바이트가 다른 표현이므로 바이너리 표현의 태그에는 형식 접미사를 붙인다("3-cbor").
+ */
+public final class EntityTags {
+
+    private static final String CBOR_SUFFIX = "-cbor";
+    private static final String SMILE_SUFFIX = "-smile";
+
+    private EntityTags() {
+    }
+
+    public static String of(long version) {
+        return "\"" + version + "\"";
+    }
+
+    public static String of(long version, MediaType representation) {
+        return forRepresentation(of(version), representation);
+    }
+
+    /**
+     * JSON 표현의 태그를 주어진 표현의 태그로 바꾼다. 이미 접미사가 있으면 그대로 둔다.
+     */
+    public static String forRepresentation(String eTag, MediaType representation) {
+        String suffix = suffixOf(representation);
+        if (suffix.isEmpty() || eTag.endsWith(suffix + "\"")) {
+            return eTag;
+        }
+        return eTag.substring(0, eTag.length() - 1) + suffix + "\"";
+    }
+
+    /**
+     * If-None-Match 는 weak 비교, If-Match 는 strong 비교(W/ 태그는 일치하지 않음)를 사용한다.
+     */
+    public static boolean matches(String header, String eTag, boolean weak) {
+        for (String candidate : header.split(",")) {
+            candidate = candidate.trim();
+            if (candidate.equals("*")) {
+                return true;
+            }
+            if (candidate.startsWith("W/")) {
+                if (!weak) {
+                    continue;
+                }
+                candidate = candidate.substring(2);
+            }
+            if (candidate.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * If-Match 용 strong 비교. 수정 전제 조건은 표현이 아니라 엔티티 버전에 대한 것이므로 어느 표현으로 받은 태그든 받는다.
+     */
+    public static boolean matchesVersion(String header, long version) {
+        return matches(header, of(version), false)
+                || matches(header, of(version, BinaryMediaTypes.CBOR), false)
+                || matches(header, of(version, BinaryMediaTypes.SMILE), false);
+    }
+
+    private static String suffixOf(MediaType representation) {
+        if (representation == null) {
+            return "";
+        }
+        if (representation.isCompatibleWith(BinaryMediaTypes.CBOR)) {
+            return CBOR_SUFFIX;
+        }
+        if (representation.isCompatibleWith(BinaryMediaTypes.SMILE)) {
+            return SMILE_SUFFIX;
+        }
+        return "";
+    }
+}
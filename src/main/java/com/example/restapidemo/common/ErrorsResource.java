@@ -1,17 +1,22 @@
 package com.example.restapidemo.common;
 
-import com.example.restapidemo.index.IndexController;
+import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.validation.Errors;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+import java.util.List;
 
 public class ErrorsResource extends EntityModel<Errors> {
 
     public static EntityModel<Errors> modelOf(Errors errors) {
         EntityModel<Errors> errorsModel = EntityModel.of(errors);
-        errorsModel.add(linkTo(methodOn(IndexController.class).index()).withRel("index"));
+        errorsModel.add(ApiLinks.indexLink("index"));
         return errorsModel;
     }
-}
\ No newline at end of file
+
+    public static <T> CollectionModel<T> modelOf(List<T> errors) {
+        CollectionModel<T> errorsModel = CollectionModel.of(errors);
+        errorsModel.add(ApiLinks.indexLink("index"));
+        return errorsModel;
+    }
+}
@@ -5,45 +5,64 @@ import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import org.springframework.boot.jackson.JsonComponent;
 import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.ObjectError;
 
 import java.io.IOException;
+import java.util.List;
 
+/**
+ * 검증 오류를 "errors" 배열로 바로 써 내려간다. 필드 오류를 먼저, 전역 오류를 나중에 쓰며,
+ * 필드/전역 오류 목록을 따로 복사하지 않도록 전체 오류 목록을 두 번 훑는다. 쓰기 실패는 그대로 던진다.
+ */
 @JsonComponent
 public class ErrorsSerializer extends JsonSerializer<Errors> {
 
     @Override
     public void serialize(Errors errors, JsonGenerator gen, SerializerProvider serializerProvider) throws IOException {
-        gen.writeFieldName("errors");
-        gen.writeStartArray();
-        errors.getFieldErrors().forEach(e -> {
-            try {
-                gen.writeStartObject();
-                gen.writeStringField("field", e.getField());
-                gen.writeStringField("objectName", e.getObjectName());
-                gen.writeStringField("code", e.getCode());
-                gen.writeStringField("defaultMessage", e.getDefaultMessage());
-
-                Object rejectedValue = e.getRejectedValue();
-                if (rejectedValue != null) {
-                    gen.writeStringField("rejectedValue", rejectedValue.toString());
-                }
-                gen.writeEndObject();
-            } catch (IOException ioException) {
-                ioException.printStackTrace();
+        List<ObjectError> allErrors = errors.getAllErrors();
+        gen.writeArrayFieldStart("errors");
+        for (int i = 0; i < allErrors.size(); i++) {
+            ObjectError error = allErrors.get(i);
+            if (error instanceof FieldError) {
+                writeFieldError((FieldError) error, gen);
             }
-        });
-
-        errors.getGlobalErrors().forEach(e -> {
-            try {
-                gen.writeStartObject();
-                gen.writeStringField("objectName", e.getObjectName());
-                gen.writeStringField("code", e.getCode());
-                gen.writeStringField("defaultMessage", e.getDefaultMessage());
-                gen.writeEndObject();
-            } catch (IOException ioException) {
-                ioException.printStackTrace();
+        }
+        for (int i = 0; i < allErrors.size(); i++) {
+            ObjectError error = allErrors.get(i);
+            if (!(error instanceof FieldError)) {
+                writeGlobalError(error, gen);
             }
-        });
+        }
         gen.writeEndArray();
     }
+
+    /**
+     * "errors" 필드 이름까지 직접 쓰므로, @JsonUnwrapped 로 감싼 쪽(EventBatchError)이 필드 이름을 먼저 쓰지 않게 한다.
+     */
+    @Override
+    public boolean isUnwrappingSerializer() {
+        return true;
+    }
+
+    private static void writeFieldError(FieldError error, JsonGenerator gen) throws IOException {
+        gen.writeStartObject();
+        gen.writeStringField("field", error.getField());
+        gen.writeStringField("objectName", error.getObjectName());
+        gen.writeStringField("code", error.getCode());
+        gen.writeStringField("defaultMessage", error.getDefaultMessage());
+        Object rejectedValue = error.getRejectedValue();
+        if (rejectedValue != null) {
+            gen.writeStringField("rejectedValue", rejectedValue.toString());
+        }
+        gen.writeEndObject();
+    }
+
+    private static void writeGlobalError(ObjectError error, JsonGenerator gen) throws IOException {
+        gen.writeStartObject();
+        gen.writeStringField("objectName", error.getObjectName());
+        gen.writeStringField("code", error.getCode());
+        gen.writeStringField("defaultMessage", error.getDefaultMessage());
+        gen.writeEndObject();
+    }
 }
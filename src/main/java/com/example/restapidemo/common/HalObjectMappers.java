@@ -0,0 +1,23 @@
+package com.example.restapidemo.common;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.hateoas.mediatype.MessageResolver;
+import org.springframework.hateoas.mediatype.hal.CurieProvider;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule;
+import org.springframework.hateoas.server.LinkRelationProvider;
+
+/**
+ * 스프링 HATEOAS 의 HAL 컨버터가 아닌 곳(리액티브 API, CBOR/Smile 컨버터, 이벤트 조회 응답 캐시)에서 쓸 ObjectMapper 에 HAL 직렬화를 설정한다.
+ */
+public final class HalObjectMappers {
+
+    private HalObjectMappers() {
+    }
+
+    public static ObjectMapper hal(ObjectMapper objectMapper, LinkRelationProvider linkRelationProvider) {
+        objectMapper.registerModule(new Jackson2HalModule());
+        objectMapper.setHandlerInstantiator(new Jackson2HalModule.HalHandlerInstantiator(
+                linkRelationProvider, CurieProvider.NONE, MessageResolver.DEFAULTS_ONLY));
+        return objectMapper;
+    }
+}
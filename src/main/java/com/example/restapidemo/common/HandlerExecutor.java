@@ -0,0 +1,123 @@
+package com.example.restapidemo.common;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 핸들러 본문 실행기.
+ * 기본(블로킹) 모드에서는 호출한 서블릿 스레드에서 그대로 실행해 ResponseEntity 를 돌려준다.
+ * 비동기 모드(app.async.enabled=true)에서는 Hikari 풀 크기만큼의 스레드를 가진 executor 에서 실행하고 DeferredResult 를 돌려주므로
+ * JDBC 를 기다리는 동안 서블릿 스레드를 붙잡지 않는다. executor 가 포화되면 기다리지 않고 바로 503 을 응답한다.
+ */
+@Component
+public class HandlerExecutor implements MeterBinder, DisposableBean {
+
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+    private final LongAdder rejected = new LongAdder();
+
+    public HandlerExecutor(@Value("${app.async.enabled:false}") boolean enabled,
+                           @Value("${app.async.pool-size:${spring.datasource.hikari.maximum-pool-size:10}}") int poolSize,
+                           @Value("${app.async.queue-capacity:0}") int queueCapacity,
+                           @Value("${app.async.timeout:30s}") Duration timeout) {
+        this.executor = enabled ? newExecutor(poolSize, queueCapacity) : null;
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    private static ThreadPoolExecutor newExecutor(int poolSize, int queueCapacity) {
+        BlockingQueue<Runnable> queue = queueCapacity > 0 ? new ArrayBlockingQueue<>(queueCapacity) : new SynchronousQueue<>();
+        AtomicInteger sequence = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "handler-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS, queue, threadFactory,
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public boolean isAsync() {
+        return executor != null;
+    }
+
+    /**
+     * 블로킹 모드에서는 ResponseEntity, 비동기 모드에서는 DeferredResult 또는 포화 시 503 ResponseEntity 를 돌려준다.
+     * 스프링 MVC 는 실제 반환 값의 타입으로 처리기를 고르므로 핸들러는 Object 로 선언해 그대로 반환하면 된다.
+     */
+    public Object execute(Supplier<ResponseEntity> handler) {
+        if (executor == null) {
+            return handler.get();
+        }
+
+        DeferredResult<ResponseEntity> result = new DeferredResult<>(timeoutMillis);
+        // 원래 요청의 RequestAttributes 는 서블릿 스레드가 반환되면 비활성화되므로 작업 스레드용으로 새로 만든다.
+        ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.currentRequestAttributes();
+        RequestAttributes workerAttributes = new ServletRequestAttributes(attributes.getRequest(), attributes.getResponse());
+        try {
+            executor.execute(() -> {
+                RequestContextHolder.setRequestAttributes(workerAttributes);
+                JdbcStatementCounter.reset();
+                ResponseEntity response = null;
+                Throwable error = null;
+                try {
+                    response = handler.get();
+                } catch (Throwable e) {
+                    error = e;
+                } finally {
+                    // 결과를 넘기면 비동기 디스패치가 바로 지표를 기록할 수 있으므로 그 전에 JDBC 문 수를 요청에 옮긴다.
+                    JdbcStatementCounter.collect(workerAttributes);
+                    RequestContextHolder.resetRequestAttributes();
+                }
+                if (error != null) {
+                    result.setErrorResult(error);
+                } else {
+                    result.setResult(response);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .build();
+        }
+        return result;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (executor == null) {
+            return;
+        }
+        new ExecutorServiceMetrics(executor, "handlerExecutor", Tags.empty()).bindTo(registry);
+        FunctionCounter.builder("handler.executor.rejected", rejected, LongAdder::sum)
+                .description("Handler executions rejected because the executor was saturated")
+                .tag("name", "handlerExecutor")
+                .register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.restapidemo.common;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * 해시 타이머 휠. 마감 시각을 틱 단위로 나눠 wheelSize 개의 슬롯에 걸어 두고, 한 틱마다 슬롯 하나만 훑는다.
+ * 등록은 O(1) 이며 어느 스레드에서나 할 수 있고, 슬롯은 advanceTo 를 호출하는 한 스레드만 만지므로 잠금이 없다.
+ * 마감 시각이 지난 항목은 틱 단위로 모아 한 번에 expiredHandler 에 넘긴다. 취소는 지원하지 않는다.
+ */
+public class HashedTimerWheel<T> {
+
+    private final long tickMillis;
+    private final int mask;
+    private final List<Entry<T>>[] buckets;
+    private final long startMillis;
+    private final Consumer<List<T>> expiredHandler;
+    private final Queue<Entry<T>> pending = new ConcurrentLinkedQueue<>();
+    private long tick;
+
+    @SuppressWarnings("unchecked")
+    public HashedTimerWheel(Duration tickDuration, int wheelSize, long startMillis, Consumer<List<T>> expiredHandler) {
+        if (tickDuration.toMillis() <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("tickDuration and wheelSize must be positive");
+        }
+        int size = Integer.highestOneBit(wheelSize - 1) << 1;
+        this.tickMillis = tickDuration.toMillis();
+        this.mask = Math.max(size, 1) - 1;
+        this.buckets = new List[mask + 1];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new ArrayList<>();
+        }
+        this.startMillis = startMillis;
+        this.expiredHandler = expiredHandler;
+    }
+
+    public void schedule(T task, long deadlineMillis) {
+        pending.add(new Entry<>(task, deadlineMillis));
+    }
+
+    /**
+     * nowMillis 까지 지난 틱을 차례로 처리하고 만료된 항목 수를 돌려준다. 한 스레드에서만 호출해야 한다.
+     */
+    public int advanceTo(long nowMillis) {
+        List<T> expired = new ArrayList<>();
+        long lastTick = Math.floorDiv(nowMillis - startMillis, tickMillis);
+        while (tick <= lastTick) {
+            transferPending();
+            Iterator<Entry<T>> entries = buckets[(int) (tick & mask)].iterator();
+            while (entries.hasNext()) {
+                Entry<T> entry = entries.next();
+                if (entry.rounds > 0) {
+                    entry.rounds--;
+                } else {
+                    expired.add(entry.task);
+                    entries.remove();
+                }
+            }
+            tick++;
+        }
+        if (!expired.isEmpty()) {
+            expiredHandler.accept(expired);
+        }
+        return expired.size();
+    }
+
+    private void transferPending() {
+        Entry<T> entry;
+        while ((entry = pending.poll()) != null) {
+            // 틱 t 는 startMillis + t * tickMillis 이후에 처리되므로 올림해서 마감 시각보다 먼저 만료되지 않게 한다.
+            long deadlineTick = -Math.floorDiv(startMillis - entry.deadlineMillis, tickMillis);
+            long target = Math.max(deadlineTick, tick);
+            entry.rounds = (target - tick) / buckets.length;
+            buckets[(int) (target & mask)].add(entry);
+        }
+    }
+
+    private static final class Entry<T> {
+        private final T task;
+        private final long deadlineMillis;
+        private long rounds;
+
+        private Entry(T task, long deadlineMillis) {
+            this.task = task;
+            this.deadlineMillis = deadlineMillis;
+        }
+    }
+}
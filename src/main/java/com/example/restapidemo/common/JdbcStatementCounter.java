@@ -0,0 +1,42 @@
+package com.example.restapidemo.common;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.web.context.request.RequestAttributes;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 현재 스레드에서 Hibernate 가 준비한 SQL 문 수를 센다. 요청 단위 JDBC 문 수 측정에 사용한다.
+ * 비동기 요청은 여러 스레드를 거치므로 각 스레드가 센 값을 요청 속성(REQUEST_ATTRIBUTE)의 합계로 옮긴다.
+ */
+public class JdbcStatementCounter implements StatementInspector {
+
+    public static final String REQUEST_ATTRIBUTE = JdbcStatementCounter.class.getName() + ".total";
+
+    private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        return sql;
+    }
+
+    public static void reset() {
+        COUNT.get()[0] = 0;
+    }
+
+    public static long count() {
+        return COUNT.get()[0];
+    }
+
+    /**
+     * 현재 스레드에서 센 값을 요청 합계에 더하고 스레드 카운터를 비운다. 합계가 없는 요청이면 비우기만 한다.
+     */
+    public static void collect(RequestAttributes attributes) {
+        AtomicLong total = (AtomicLong) attributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (total != null) {
+            total.addAndGet(count());
+        }
+        reset();
+    }
+}
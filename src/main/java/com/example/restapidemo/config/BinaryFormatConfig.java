@@ -0,0 +1,52 @@
+package com.example.restapidemo.config;
+
+import com.example.restapidemo.common.HalObjectMappers;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.hateoas.server.LinkRelationProvider;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * application/cbor, application/x-jackson-smile 로도 같은 HAL 모델을 응답한다.
+ * 스프링 부트의 ObjectMapper 설정(날짜 형식, ErrorsSerializer 등 @JsonComponent)을 그대로 쓰고 인코딩만 바꾼다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class BinaryFormatConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder;
+    private final LinkRelationProvider linkRelationProvider;
+
+    /**
+     * Jackson CBOR/Smile 모듈이 클래스패스에 있으면 스프링 MVC 가 기본 변환기를 이미 앞쪽에 등록하므로,
+     * 뒤에 덧붙이면 기본 변환기가 먼저 선택된다. 같은 자리에서 HAL 변환기로 바꿔 끼운다.
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        replace(converters, MappingJackson2CborHttpMessageConverter.class, new MappingJackson2CborHttpMessageConverter(
+                HalObjectMappers.hal(objectMapperBuilder.getObject().factory(new CBORFactory()).build(), linkRelationProvider)));
+        replace(converters, MappingJackson2SmileHttpMessageConverter.class, new MappingJackson2SmileHttpMessageConverter(
+                HalObjectMappers.hal(objectMapperBuilder.getObject().factory(new SmileFactory()).build(), linkRelationProvider)));
+    }
+
+    private static void replace(List<HttpMessageConverter<?>> converters,
+                                Class<? extends HttpMessageConverter<?>> type,
+                                HttpMessageConverter<?> converter) {
+        for (int i = 0; i < converters.size(); i++) {
+            if (type.isInstance(converters.get(i))) {
+                converters.set(i, converter);
+                return;
+            }
+        }
+        converters.add(converter);
+    }
+}
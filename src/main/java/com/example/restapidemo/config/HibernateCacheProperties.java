@@ -0,0 +1,27 @@
+package com.example.restapidemo.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Hibernate 2차 캐시 영역 설정. app.cache.regions.[영역 이름].max-entries / ttl
+ */
+@Getter @Setter
+@ConfigurationProperties("app.cache")
+public class HibernateCacheProperties {
+
+    private boolean enabled;
+
+    private Map<String, Region> regions = new LinkedHashMap<>();
+
+    @Getter @Setter
+    public static class Region {
+        private long maxEntries = 10_000;
+        private Duration ttl = Duration.ofMinutes(10);
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.restapidemo.config;
+
+import com.example.restapidemo.common.JdbcStatementCounter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 요청 단위 JDBC 문 수를 http.server.requests.jdbc.statements 로 기록한다.
+ * 비동기 요청은 서블릿 스레드와 작업 스레드가 센 값을 요청 속성에 모았다가 마지막 디스패치가 끝날 때 한 번 기록한다.
+ * 핸들러별 지연 시간(http.server.requests), Hikari 풀, Hibernate 통계는 스프링 부트 액추에이터가 기록한다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class MetricsConfig implements WebMvcConfigurer {
+
+    // JPA 설정보다 먼저 만들어지지 않도록 레지스트리는 요청이 끝날 때 꺼낸다.
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    /**
+     * static 이라 이 설정 클래스를 만들지 않고도 JPA 설정이 가져갈 수 있다.
+     */
+    @Bean
+    public static HibernatePropertiesCustomizer jdbcStatementCounterCustomizer() {
+        return hibernateProperties -> hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, new JdbcStatementCounter());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new AsyncHandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                // 비동기 디스패치에서도 다시 불리므로 합계는 첫 디스패치에서만 만든다.
+                if (request.getAttribute(JdbcStatementCounter.REQUEST_ATTRIBUTE) == null) {
+                    request.setAttribute(JdbcStatementCounter.REQUEST_ATTRIBUTE, new AtomicLong());
+                }
+                JdbcStatementCounter.reset();
+                return true;
+            }
+
+            @Override
+            public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                collect(request);
+            }
+
+            @Override
+            public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+                long statements = collect(request);
+                Object uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                DistributionSummary.builder("http.server.requests.jdbc.statements")
+                        .description("JDBC statements prepared while handling a request")
+                        .tag("method", request.getMethod())
+                        .tag("uri", uri == null ? "UNKNOWN" : uri.toString())
+                        .tag("status", String.valueOf(response.getStatus()))
+                        .register(meterRegistry.getObject())
+                        .record(statements);
+            }
+        });
+    }
+
+    private static long collect(HttpServletRequest request) {
+        AtomicLong total = (AtomicLong) request.getAttribute(JdbcStatementCounter.REQUEST_ATTRIBUTE);
+        long statements = total.addAndGet(JdbcStatementCounter.count());
+        JdbcStatementCounter.reset();
+        return statements;
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.restapidemo.config;
+
+import com.example.restapidemo.accounts.AccountService;
+import com.example.restapidemo.common.ApiLinks;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * app.rate-limit.enabled=true 이면 /api 아래 요청에 사용자/IP 별 요청 제한을 건다.
+ */
+@Configuration
+@ConditionalOnProperty(value = "app.rate-limit.enabled", havingValue = "true")
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitConfig {
+
+    @Bean
+    public RateLimiter rateLimiter(RateLimitProperties properties, AccountService accountService) {
+        return new RateLimiter(properties, accountService::roles);
+    }
+
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(RateLimiter rateLimiter, MeterRegistry meterRegistry) {
+        FilterRegistrationBean<RateLimitFilter> registration =
+                new FilterRegistrationBean<>(new RateLimitFilter(rateLimiter, meterRegistry));
+        registration.addUrlPatterns(ApiLinks.INDEX_PATH + "/*");
+        // 인증된 사용자를 알 수 있도록 스프링 시큐리티 필터 다음에 둔다.
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+        return registration;
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.restapidemo.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.security.Principal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 제한 필터. GET/HEAD/OPTIONS 는 읽기, 나머지는 쓰기 할당량에서 토큰을 쓰고, 모자라면 429 와 Retry-After(초)를 응답한다.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+    private final Counter readRejected;
+    private final Counter writeRejected;
+
+    public RateLimitFilter(RateLimiter rateLimiter, MeterRegistry meterRegistry) {
+        this.rateLimiter = rateLimiter;
+        this.readRejected = meterRegistry.counter("http.server.requests.throttled", "access", "read");
+        this.writeRejected = meterRegistry.counter("http.server.requests.throttled", "access", "write");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Principal principal = request.getUserPrincipal();
+        boolean write = isWrite(request.getMethod());
+        long waitNanos = rateLimiter.acquire(principal == null ? null : principal.getName(), request.getRemoteAddr(), write);
+        if (waitNanos > 0) {
+            (write ? writeRejected : readRejected).increment();
+            long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private static boolean isWrite(String method) {
+        switch (method) {
+            case "GET":
+            case "HEAD":
+            case "OPTIONS":
+                return false;
+            default:
+                return true;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.restapidemo.config;
+
+import com.example.restapidemo.accounts.AccountRole;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * API 요청 제한 설정. app.rate-limit.roles.[역할].read|write.capacity / refill-per-second,
+ * 인증하지 않은 요청은 app.rate-limit.anonymous.* 를 IP 별로 적용한다.
+ */
+@Getter @Setter
+@ConfigurationProperties("app.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled;
+
+    /**
+     * 버킷을 유지할 최대 사용자/IP 수
+     */
+    private long maxKeys = 100_000;
+
+    /**
+     * 이 시간 동안 요청이 없으면 버킷을 제거한다. 다시 만들면 가득 찬 상태로 시작한다.
+     */
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    private Quota anonymous = new Quota();
+
+    private Map<AccountRole, Quota> roles = new LinkedHashMap<>();
+
+    @Getter @Setter
+    public static class Quota {
+        private Limit read = new Limit();
+        private Limit write = new Limit();
+    }
+
+    @Getter @Setter
+    public static class Limit {
+        private int capacity = 100;
+        private double refillPerSecond = 50;
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.restapidemo.config;
+
+import com.example.restapidemo.accounts.AccountRole;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 사용자별(인증하지 않았으면 IP 별) 읽기/쓰기 토큰 버킷.
+ * 버킷은 최대 개수가 정해져 있고 한동안 쓰이지 않으면 제거되는 캐시에 두며, 사용자 역할은 버킷을 만들 때 한 번만 조회한다.
+ * 역할이 여러 개면 AccountRole 선언 순서에서 먼저 나오고 할당량이 설정된 역할을 따른다.
+ */
+public class RateLimiter {
+
+    private final RateLimitProperties.Quota anonymous;
+    private final Map<AccountRole, RateLimitProperties.Quota> roleQuotas;
+    private final Function<String, Set<AccountRole>> roles;
+    private final Cache<String, Buckets> userBuckets;
+    private final Cache<String, Buckets> clientBuckets;
+    // 요청마다 람다를 만들지 않도록 미리 만들어 둔다.
+    private final Function<String, Buckets> newUserBuckets = this::newUserBuckets;
+    private final Function<String, Buckets> newClientBuckets = this::newClientBuckets;
+
+    public RateLimiter(RateLimitProperties properties, Function<String, Set<AccountRole>> roles) {
+        this.anonymous = properties.getAnonymous();
+        this.roleQuotas = properties.getRoles();
+        this.roles = roles;
+        this.userBuckets = newCache(properties);
+        this.clientBuckets = newCache(properties);
+    }
+
+    private static Cache<String, Buckets> newCache(RateLimitProperties properties) {
+        return Caffeine.newBuilder()
+                .maximumSize(properties.getMaxKeys())
+                .expireAfterAccess(properties.getIdleTimeout().toNanos(), TimeUnit.NANOSECONDS)
+                .build();
+    }
+
+    /**
+     * 허용하면 0, 아니면 다시 시도할 수 있을 때까지 남은 나노초를 돌려준다. username 이 null 이면 remoteAddress 로 제한한다.
+     */
+    public long acquire(String username, String remoteAddress, boolean write) {
+        Buckets buckets = username != null
+                ? userBuckets.get(username, newUserBuckets)
+                : clientBuckets.get(remoteAddress, newClientBuckets);
+        return (write ? buckets.write : buckets.read).tryAcquire(System.nanoTime());
+    }
+
+    private Buckets newUserBuckets(String username) {
+        Set<AccountRole> accountRoles = roles.apply(username);
+        for (AccountRole role : AccountRole.values()) {
+            RateLimitProperties.Quota quota = roleQuotas.get(role);
+            if (quota != null && accountRoles.contains(role)) {
+                return new Buckets(quota);
+            }
+        }
+        return new Buckets(anonymous);
+    }
+
+    private Buckets newClientBuckets(String remoteAddress) {
+        return new Buckets(anonymous);
+    }
+
+    private static final class Buckets {
+        private final TokenBucket read;
+        private final TokenBucket write;
+
+        private Buckets(RateLimitProperties.Quota quota) {
+            long now = System.nanoTime();
+            this.read = new TokenBucket(quota.getRead(), now);
+            this.write = new TokenBucket(quota.getWrite(), now);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.restapidemo.config;
+
+import com.example.restapidemo.common.HalObjectMappers;
+import com.example.restapidemo.events.ReactiveEventRepository;
+import com.example.restapidemo.events.ReactiveEventRouter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.hateoas.server.LinkRelationProvider;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import reactor.core.Disposable;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+/**
+ * 읽기 전용 리액티브 이벤트 API 를 서블릿 컨테이너와 별도의 Netty 서버(app.reactive.port)로 띄운다.
+ * MVC/JPA 쓰기 경로와 같은 event 테이블을 R2DBC 커넥션 풀(app.reactive.r2dbc.*)로 읽는다.
+ */
+@Component
+@ConditionalOnProperty(name = "app.reactive.enabled", havingValue = "true")
+public class ReactiveEventServer implements SmartLifecycle {
+
+    private final ObjectMapper halObjectMapper;
+    private final LinkRelationProvider linkRelationProvider;
+    private final ConnectionFactoryOptions connectionFactoryOptions;
+    private final int port;
+
+    private ConnectionFactory connectionFactory;
+    private DisposableServer server;
+
+    public ReactiveEventServer(ObjectMapper objectMapper,
+                               LinkRelationProvider linkRelationProvider,
+                               @Value("${app.reactive.port}") int port,
+                               @Value("${app.reactive.r2dbc.url}") String url,
+                               @Value("${app.reactive.r2dbc.username:}") String username,
+                               @Value("${app.reactive.r2dbc.password:}") String password) {
+        this.halObjectMapper = HalObjectMappers.hal(objectMapper.copy(), linkRelationProvider);
+        this.linkRelationProvider = linkRelationProvider;
+        this.connectionFactoryOptions = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+        this.port = port;
+    }
+
+    @Override
+    public synchronized void start() {
+        connectionFactory = ConnectionFactories.get(connectionFactoryOptions);
+        ReactiveEventRouter router = new ReactiveEventRouter(
+                new ReactiveEventRepository(connectionFactory), halObjectMapper, linkRelationProvider);
+        server = HttpServer.create()
+                .port(port)
+                .handle(new ReactorHttpHandlerAdapter(RouterFunctions.toHttpHandler(router.routes())))
+                .bindNow();
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (server != null) {
+            server.disposeNow();
+            server = null;
+        }
+        if (connectionFactory instanceof Disposable) {
+            ((Disposable) connectionFactory).dispose();
+        }
+        connectionFactory = null;
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return server != null;
+    }
+
+    public synchronized int getPort() {
+        return server == null ? port : server.port();
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.restapidemo.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 읽기 전용 트랜잭션의 커넥션은 복제본에서 돌아가며 가져오고, 나머지는 주 DB 에서 가져온다.
+ * 커넥션을 얻지 못한 복제본은 retryInterval 동안 건너뛰며, 쓸 수 있는 복제본이 없으면 주 DB 를 사용한다.
+ * 트랜잭션의 readOnly 여부는 트랜잭션 시작 후에 정해지므로 LazyConnectionDataSourceProxy 로 감싸서 사용한다.
+ */
+@Slf4j
+public class ReadReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private final DataSource primary;
+    private final List<DataSource> replicas;
+    private final long retryIntervalNanos;
+    private final AtomicLongArray skipUntil;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReadReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, Duration retryInterval) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.retryIntervalNanos = retryInterval.toNanos();
+        this.skipUntil = new AtomicLongArray(replicas.size());
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    /**
+     * 복제본 풀을 닫는다. 주 DB 풀은 별도 빈이므로 닫지 않는다.
+     */
+    @Override
+    public void close() throws Exception {
+        for (DataSource replica : replicas) {
+            if (replica instanceof AutoCloseable) {
+                ((AutoCloseable) replica).close();
+            }
+        }
+    }
+
+    private Connection route(ConnectionFactory connectionFactory) throws SQLException {
+        if (!replicas.isEmpty() && TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+            for (int i = 0; i < replicas.size(); i++) {
+                int index = (start + i) % replicas.size();
+                long now = System.nanoTime();
+                long until = skipUntil.get(index);
+                if (until != 0 && now - until < 0) {
+                    continue;
+                }
+                try {
+                    Connection connection = connectionFactory.getConnection(replicas.get(index));
+                    skipUntil.compareAndSet(index, until, 0);
+                    return connection;
+                } catch (SQLException e) {
+                    skipUntil.set(index, now + retryIntervalNanos);
+                    log.warn("Read replica {} is unavailable, skipping it for {} ms", index, retryIntervalNanos / 1_000_000, e);
+                }
+            }
+        }
+        return connectionFactory.getConnection(primary);
+    }
+
+    @FunctionalInterface
+    private interface ConnectionFactory {
+        Connection getConnection(DataSource dataSource) throws SQLException;
+    }
+}
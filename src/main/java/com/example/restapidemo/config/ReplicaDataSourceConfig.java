@@ -0,0 +1,79 @@
+package com.example.restapidemo.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * app.datasource.replicas 가 설정되면 @Transactional(readOnly = true) 작업을 복제본으로 보내는 DataSource 를 구성한다.
+ * 주 DB 풀은 스프링 부트와 같은 spring.datasource.* 설정으로 만든다.
+ */
+@Configuration
+@ConditionalOnProperty("app.datasource.replicas[0].url")
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReadReplicaRoutingDataSource readReplicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                                     ReplicaDataSourceProperties properties) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < properties.getReplicas().size(); i++) {
+            ReplicaDataSourceProperties.Replica replica = properties.getReplicas().get(i);
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("replica-" + i);
+            dataSource.setDriverClassName(primaryDataSource.getDriverClassName());
+            dataSource.setJdbcUrl(replica.getUrl());
+            dataSource.setUsername(replica.getUsername());
+            dataSource.setPassword(replica.getPassword());
+            dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+            dataSource.setReadOnly(true);
+            // 기동 시 복제본이 내려가 있어도 주 DB 로 대체할 수 있도록 풀 초기화 실패로 기동을 막지 않는다.
+            dataSource.setInitializationFailTimeout(-1);
+            replicas.add(dataSource);
+        }
+        return new ReadReplicaRoutingDataSource(primaryDataSource, replicas, properties.getRetryInterval());
+    }
+
+    /**
+     * 풀도 DataSource 빈이라 만들어지는 즉시 부트의 DataSourceInitializer 가 @Primary DataSource 를 찾는다.
+     * 라우팅 DataSource 를 지연 주입해 이 빈이 먼저 만들어지게 하고, 풀은 초기화 중 첫 커넥션을 읽을 때 만든다.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Lazy ReadReplicaRoutingDataSource readReplicaRoutingDataSource) {
+        // 생성자는 바로 대상에서 커넥션 기본값을 읽으므로, 빈이 만들어진 뒤 afterPropertiesSet 에서 읽도록 setter 로 구성한다.
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy();
+        dataSource.setTargetDataSource(readReplicaRoutingDataSource);
+        return dataSource;
+    }
+
+    /**
+     * 기본값(DELAYED_ACQUISITION_AND_HOLD)은 open-in-view 동안 첫 트랜잭션의 커넥션을 계속 쥐고 있어,
+     * 읽기 전용 트랜잭션 다음의 쓰기가 복제본으로 갈 수 있다. 트랜잭션마다 커넥션을 반납해 매번 다시 라우팅한다.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer connectionHandlingCustomizer() {
+        return hibernateProperties -> hibernateProperties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+}
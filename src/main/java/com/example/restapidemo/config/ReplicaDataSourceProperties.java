@@ -0,0 +1,32 @@
+package com.example.restapidemo.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 전용 복제본 설정. app.datasource.replicas[n].url / username / password / maximum-pool-size
+ */
+@Getter @Setter
+@ConfigurationProperties("app.datasource")
+public class ReplicaDataSourceProperties {
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    /**
+     * 연결에 실패한 복제본을 다시 시도하기 전까지 건너뛰는 시간
+     */
+    private Duration retryInterval = Duration.ofSeconds(30);
+
+    @Getter @Setter
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+}
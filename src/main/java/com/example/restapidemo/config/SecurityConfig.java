@@ -0,0 +1,25 @@
+package com.example.restapidemo.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configuration.WebSecurityConfigurerAdapter;
+import org.springframework.security.config.http.SessionCreationPolicy;
+
+/**
+ * API 는 익명으로도 쓸 수 있고, Basic 인증을 보내면 AccountService 로 계정을 확인해 요청 제한 등에서 사용자별로 구분한다.
+ * 설정이 없으면 스프링 부트 기본값이 모든 요청에 인증을 요구하고 쓰기 요청을 CSRF 로 막는다.
+ */
+@Configuration
+public class SecurityConfig extends WebSecurityConfigurerAdapter {
+
+    @Override
+    protected void configure(HttpSecurity http) throws Exception {
+        http
+                .csrf().disable()
+                .sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+                .and()
+                .httpBasic()
+                .and()
+                .authorizeRequests().anyRequest().permitAll();
+    }
+}
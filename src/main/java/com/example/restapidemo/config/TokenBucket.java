@@ -0,0 +1,37 @@
+package com.example.restapidemo.config;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 잠금 없는 토큰 버킷. 남은 토큰 수 대신 버킷이 다시 가득 차는 이론상 시각 하나만 AtomicLong 에 두고 CAS 로 갱신한다(GCRA).
+ * 토큰 하나를 쓰면 그 시각이 채움 간격만큼 늦춰지고, 지금보다 capacity 개 간격 이상 늦어지면 거부한다.
+ */
+final class TokenBucket {
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final AtomicLong fullAt;
+
+    TokenBucket(RateLimitProperties.Limit limit, long nowNanos) {
+        this.intervalNanos = (long) (1_000_000_000L / limit.getRefillPerSecond());
+        this.burstNanos = intervalNanos * limit.getCapacity();
+        this.fullAt = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * 토큰을 얻으면 0, 아니면 토큰 하나가 채워질 때까지 남은 나노초를 돌려준다.
+     */
+    long tryAcquire(long nowNanos) {
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, nowNanos) + intervalNanos;
+            long wait = next - nowNanos - burstNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.restapidemo.events;
+
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Builder @NoArgsConstructor @AllArgsConstructor
+@Getter @EqualsAndHashCode(of = "id")
+@Entity
+@Table(indexes = @Index(name = "idx_enrollment_event", columnList = "event_id"))
+public class Enrollment {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "enrollment_seq")
+    @SequenceGenerator(name = "enrollment_seq", sequenceName = "enrollment_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    private Event event;
+
+    private String username; // 익명 신청이면 null
+    private LocalDateTime enrolledAt;
+}
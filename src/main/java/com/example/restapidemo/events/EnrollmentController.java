@@ -0,0 +1,50 @@
+package com.example.restapidemo.events;
+
+import com.example.restapidemo.common.ApiLinks;
+import com.example.restapidemo.common.BinaryMediaTypes;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.security.Principal;
+import java.util.Locale;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping(value = ApiLinks.EVENTS_PATH + "/{id}/enrollments",
+        produces = {MediaTypes.HAL_JSON_VALUE, BinaryMediaTypes.CBOR_VALUE, BinaryMediaTypes.SMILE_VALUE})
+public class EnrollmentController {
+
+    private final EnrollmentSeats enrollmentSeats;
+    private final EnrollmentWriter enrollmentWriter;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 참가 신청. 좌석은 메모리 카운터에서 바로 확정하고 DB 기록은 EnrollmentWriter 가 모아서 처리하므로 202 를 응답한다.
+     * 신청을 받지 않는 상태이거나 정원이 찼거나 이미 신청한 사용자면 409 를 응답한다.
+     */
+    @PostMapping
+    public ResponseEntity enroll(@PathVariable("id") Integer id, Principal principal) {
+        String username = principal == null ? null : principal.getName();
+        EnrollmentSeats.Result result = enrollmentSeats.tryEnroll(id, username);
+        meterRegistry.counter("event.enrollments", "result", result.name().toLowerCase(Locale.ROOT)).increment();
+        if (result == EnrollmentSeats.Result.NOT_FOUND) {
+            return ResponseEntity.notFound().build();
+        }
+        if (result != EnrollmentSeats.Result.ACCEPTED) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        enrollmentWriter.submit(id, username);
+
+        EnrollmentResult enrollmentResult = new EnrollmentResult(id, username);
+        enrollmentResult.add(ApiLinks.eventLink(id, "event"));
+        enrollmentResult.add(ApiLinks.profile("resources-events-enroll"));
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(enrollmentResult);
+    }
+}
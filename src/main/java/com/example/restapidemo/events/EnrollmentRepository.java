@@ -0,0 +1,24 @@
+package com.example.restapidemo.events;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.QueryHint;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Transactional(readOnly = true)
+public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
+
+    long countByEventId(Integer eventId);
+
+    @Query("select en.username from Enrollment en where en.event.id = :eventId")
+    List<String> findUsernamesByEventId(@Param("eventId") Integer eventId);
+
+    @QueryHints(@QueryHint(name = org.hibernate.annotations.QueryHints.FETCH_SIZE, value = "500"))
+    @Query("select en.event.id, en.username from Enrollment en where en.event.eventStatus = :status")
+    Stream<Object[]> streamByEventStatus(@Param("status") EventStatus status);
+}
@@ -0,0 +1,18 @@
+package com.example.restapidemo.events;
+
+import lombok.Getter;
+import org.springframework.hateoas.RepresentationModel;
+
+/**
+ * 접수된 참가 신청. DB 기록은 나중에 일괄로 이뤄지므로 신청 id 는 담지 않는다.
+ */
+@Getter
+public class EnrollmentResult extends RepresentationModel<EnrollmentResult> {
+    private final Integer eventId;
+    private final String username;
+
+    public EnrollmentResult(Integer eventId, String username) {
+        this.eventId = eventId;
+        this.username = username;
+    }
+}
@@ -0,0 +1,224 @@
+package com.example.restapidemo.events;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * 이벤트별 참가 좌석 카운터. 신청 경로는 DB 를 거치지 않고 이벤트마다 하나인 카운터를 CAS 로 올리며,
+ * 올리기 전에 limitOfEnrollment 와 비교하므로 동시에 몰려도 초과 접수하지 않는다.
+ * 상한이 있어야 해서 LongAdder 같은 분산 카운터 대신 CAS 를 쓰고, 경합은 이벤트 단위로만 생긴다.
+ * 시작 시 BEGAN_ENROLLMENT 이벤트와 기존 신청을 DB 에서 읽어 복원하고, 신청 접수가 시작되는 이벤트는 상태 전이 때,
+ * 그 밖의 이벤트는 첫 신청 때 적재한다. 같은 이벤트의 적재는 한 번만 실행하고 동시에 들어온 요청은 그 결과를 기다린다.
+ * 카운터가 프로세스 안에 있으므로 인스턴스가 하나일 때를 전제로 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class EnrollmentSeats {
+
+    public enum Result {
+        ACCEPTED, NOT_FOUND, CLOSED, FULL, DUPLICATE
+    }
+
+    private final EventRepository eventRepository;
+    private final EnrollmentRepository enrollmentRepository;
+
+    private final ConcurrentMap<Integer, Seats> seatsByEvent = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Integer, CompletableFuture<Seats>> loading = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        Map<Integer, Seats> loaded = new HashMap<>();
+        for (Event event : eventRepository.findByEventStatus(EventStatus.BEGAN_ENROLLMENT)) {
+            loaded.put(event.getId(), new Seats(event));
+        }
+        try (Stream<Object[]> rows = enrollmentRepository.streamByEventStatus(EventStatus.BEGAN_ENROLLMENT)) {
+            rows.forEach(row -> {
+                Seats seats = loaded.get((Integer) row[0]);
+                if (seats != null) {
+                    seats.restore((String) row[1]);
+                }
+            });
+        }
+        // 준비 이벤트 전에 들어온 신청으로 이미 적재된 이벤트는 메모리 쪽이 최신이다.
+        loaded.forEach(seatsByEvent::putIfAbsent);
+    }
+
+    /**
+     * 좌석을 하나 잡는다. username 이 있으면 같은 사용자의 중복 신청을 거부한다.
+     */
+    public Result tryEnroll(Integer eventId, String username) {
+        Seats seats = seats(eventId);
+        if (seats == null) {
+            return Result.NOT_FOUND;
+        }
+        return seats.acquire(username);
+    }
+
+    /**
+     * 기록에 실패한 신청의 좌석을 돌려준다.
+     */
+    public void release(Integer eventId, String username) {
+        Seats seats = seatsByEvent.get(eventId);
+        if (seats != null) {
+            seats.release(username);
+        }
+    }
+
+    /**
+     * 이벤트의 상태나 정원이 바뀌면 적재된 카운터에 반영한다. 이미 잡힌 좌석은 그대로 둔다.
+     * 신청 접수가 시작되면 아직 적재되지 않은 이벤트도 적재해 첫 신청이 몰릴 때 DB 를 읽지 않게 한다.
+     * 바뀌기 전 값을 읽고 있는 적재가 있으면 끝나기를 기다렸다가 그 결과에 반영한다.
+     */
+    public void refresh(Event event) {
+        Seats seats = event.getEventStatus() == EventStatus.BEGAN_ENROLLMENT ? seats(event.getId()) : loaded(event.getId());
+        if (seats != null) {
+            seats.update(event);
+        }
+    }
+
+    public void refresh(Integer eventId, EventStatus eventStatus) {
+        Seats seats = eventStatus == EventStatus.BEGAN_ENROLLMENT ? seats(eventId) : loaded(eventId);
+        if (seats != null) {
+            seats.status(eventStatus);
+        }
+    }
+
+    public int enrolled(Integer eventId) {
+        Seats seats = seatsByEvent.get(eventId);
+        return seats == null ? 0 : seats.enrolled.get();
+    }
+
+    /**
+     * 적재된 카운터. 없으면 DB 에서 적재하며, 같은 이벤트를 이미 적재 중이면 그 결과를 기다린다. 이벤트가 없으면 null 이다.
+     */
+    private Seats seats(Integer eventId) {
+        Seats seats = seatsByEvent.get(eventId);
+        if (seats != null) {
+            return seats;
+        }
+        CompletableFuture<Seats> future = new CompletableFuture<>();
+        CompletableFuture<Seats> inFlight = loading.putIfAbsent(eventId, future);
+        if (inFlight != null) {
+            return await(inFlight);
+        }
+        try {
+            // 적재를 맡기 직전에 다른 적재가 끝났을 수 있다.
+            seats = seatsByEvent.get(eventId);
+            if (seats == null) {
+                seats = load(eventId).orElse(null);
+                if (seats != null) {
+                    Seats existing = seatsByEvent.putIfAbsent(eventId, seats);
+                    seats = existing != null ? existing : seats;
+                }
+            }
+            future.complete(seats);
+            return seats;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            // seatsByEvent 에 넣은 뒤에 지우므로, 둘 다에서 보이지 않는 순간은 적재 전뿐이다.
+            loading.remove(eventId, future);
+        }
+    }
+
+    /**
+     * 적재된 카운터나 진행 중인 적재의 결과. 새로 적재하지는 않는다.
+     */
+    private Seats loaded(Integer eventId) {
+        Seats seats = seatsByEvent.get(eventId);
+        if (seats != null) {
+            return seats;
+        }
+        CompletableFuture<Seats> inFlight = loading.get(eventId);
+        return inFlight != null ? await(inFlight) : seatsByEvent.get(eventId);
+    }
+
+    private static Seats await(CompletableFuture<Seats> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private Optional<Seats> load(Integer eventId) {
+        return eventRepository.findById(eventId).map(event -> {
+            Seats seats = new Seats(event);
+            enrollmentRepository.findUsernamesByEventId(eventId).forEach(seats::restore);
+            return seats;
+        });
+    }
+
+    static final class Seats {
+        private final AtomicInteger enrolled = new AtomicInteger();
+        private final Set<String> members = ConcurrentHashMap.newKeySet();
+        private volatile int limit;
+        private volatile boolean open;
+
+        Seats(Event event) {
+            update(event);
+        }
+
+        void update(Event event) {
+            this.limit = event.getLimitOfEnrollment();
+            status(event.getEventStatus());
+        }
+
+        void status(EventStatus eventStatus) {
+            this.open = eventStatus == EventStatus.BEGAN_ENROLLMENT;
+        }
+
+        void restore(String username) {
+            enrolled.incrementAndGet();
+            if (username != null) {
+                members.add(username);
+            }
+        }
+
+        Result acquire(String username) {
+            if (!open) {
+                return Result.CLOSED;
+            }
+            if (username != null && !members.add(username)) {
+                return Result.DUPLICATE;
+            }
+            int taken;
+            do {
+                taken = enrolled.get();
+                if (taken >= limit) {
+                    if (username != null) {
+                        members.remove(username);
+                    }
+                    return Result.FULL;
+                }
+            } while (!enrolled.compareAndSet(taken, taken + 1));
+            return Result.ACCEPTED;
+        }
+
+        void release(String username) {
+            enrolled.decrementAndGet();
+            if (username != null) {
+                members.remove(username);
+            }
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.restapidemo.events;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 접수된 참가 신청을 모아 DB 에 기록한다. 신청마다 트랜잭션을 열지 않고, 한 스레드가 주기적으로 큐를 비워
+ * batch-size 단위 트랜잭션에서 JDBC batch insert 로 저장한다.
+ * 일시적인 DB 오류는 간격을 늘려 가며 다시 시도하고, 그래도 실패하면 다음 주기에 다시 기록한다.
+ * 그 밖의 오류는 배치를 나눠 실패하는 신청만 골라내고, 그 신청의 좌석만 돌려준다.
+ * 큐는 메모리에만 있으므로 프로세스가 비정상 종료되면 아직 기록하지 못한 신청은 잃는다(정상 종료 때는 비우고 끝낸다).
+ * 202 응답은 좌석 확보까지만 보장한다.
+ */
+@Slf4j
+@Component
+public class EnrollmentWriter implements DisposableBean {
+
+    private final EventRepository eventRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final EnrollmentSeats enrollmentSeats;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final BlockingQueue<Pending> queue = new LinkedBlockingQueue<>();
+    private final ScheduledExecutorService scheduler;
+
+    public EnrollmentWriter(EventRepository eventRepository,
+                            EnrollmentRepository enrollmentRepository,
+                            EnrollmentSeats enrollmentSeats,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.enrollment.batch-size:500}") int batchSize,
+                            @Value("${app.enrollment.flush-interval:100ms}") Duration flushInterval,
+                            @Value("${app.enrollment.max-attempts:3}") int maxAttempts,
+                            @Value("${app.enrollment.retry-backoff:100ms}") Duration retryBackoff) {
+        this.eventRepository = eventRepository;
+        this.enrollmentRepository = enrollmentRepository;
+        this.enrollmentSeats = enrollmentSeats;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "enrollment-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // MeterBinder 로 두면 레지스트리를 만들 때 이 빈과 리포지토리를 끌어와 JPA 설정과 순환하므로 직접 등록한다.
+        Gauge.builder("event.enrollments.pending", queue, BlockingQueue::size)
+                .description("Accepted enrollments waiting to be written")
+                .register(meterRegistry);
+        long interval = flushInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::flush, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    public void submit(Integer eventId, String username) {
+        queue.add(new Pending(eventId, username, LocalDateTime.now()));
+    }
+
+    /**
+     * 지금까지 쌓인 신청을 모두 기록하고 기록한 건수를 돌려준다.
+     */
+    public synchronized int flush() {
+        int written = 0;
+        List<Pending> batch = new ArrayList<>(batchSize);
+        List<Pending> deferred = new ArrayList<>();
+        while (queue.drainTo(batch, batchSize) > 0) {
+            written += write(batch, deferred);
+            batch.clear();
+            if (!deferred.isEmpty()) {
+                // DB 에 닿지 못하는 동안은 큐를 계속 비우지 않고 다음 주기로 미룬다. 좌석은 그대로 잡아 둔다.
+                log.warn("Deferring {} enrollments to the next flush", deferred.size());
+                queue.addAll(deferred);
+                break;
+            }
+        }
+        return written;
+    }
+
+    /**
+     * 배치를 기록하고 기록한 건수를 돌려준다. 재시도해도 일시적 오류가 계속되면 deferred 에 남긴다.
+     * 스케줄된 작업이 예외로 끝나면 이후 실행이 취소되므로 예외를 밖으로 던지지 않는다.
+     */
+    private int write(List<Pending> batch, List<Pending> deferred) {
+        long backoff = retryBackoff.toMillis();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                insert(batch);
+                return batch.size();
+            } catch (RuntimeException e) {
+                if (!isTransient(e)) {
+                    return split(batch, deferred, e);
+                }
+                if (attempt >= maxAttempts || !sleep(backoff)) {
+                    log.error("Failed to write {} enrollments after {} attempts", batch.size(), attempt, e);
+                    deferred.addAll(batch);
+                    return 0;
+                }
+                backoff *= 2;
+            }
+        }
+    }
+
+    /**
+     * 한 트랜잭션이라 한 건만 잘못되어도 배치 전체가 롤백되므로, 반씩 나눠 다시 기록해 실패하는 신청만 남긴다.
+     */
+    private int split(List<Pending> batch, List<Pending> deferred, RuntimeException e) {
+        if (batch.size() == 1) {
+            Pending pending = batch.get(0);
+            log.error("Failed to write enrollment of {} to event {}, releasing the seat", pending.username, pending.eventId, e);
+            enrollmentSeats.release(pending.eventId, pending.username);
+            return 0;
+        }
+        int middle = batch.size() / 2;
+        return write(batch.subList(0, middle), deferred) + write(batch.subList(middle, batch.size()), deferred);
+    }
+
+    private void insert(List<Pending> batch) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Enrollment> enrollments = new ArrayList<>(batch.size());
+            for (Pending pending : batch) {
+                enrollments.add(Enrollment.builder()
+                        .event(eventRepository.getOne(pending.eventId))
+                        .username(pending.username)
+                        .enrolledAt(pending.enrolledAt)
+                        .build());
+            }
+            enrollmentRepository.saveAll(enrollments);
+        });
+    }
+
+    /**
+     * 다시 시도하면 성공할 수 있는 오류. 커넥션을 얻지 못한 경우(풀 고갈, DB 재시작)도 포함한다.
+     */
+    private static boolean isTransient(RuntimeException e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof CannotCreateTransactionException;
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        scheduler.shutdown();
+        scheduler.awaitTermination(10, TimeUnit.SECONDS);
+        flush();
+    }
+
+    private static final class Pending {
+        private final Integer eventId;
+        private final String username;
+        private final LocalDateTime enrolledAt;
+
+        private Pending(Integer eventId, String username, LocalDateTime enrolledAt) {
+            this.eventId = eventId;
+            this.username = username;
+            this.enrolledAt = enrolledAt;
+        }
+    }
+}
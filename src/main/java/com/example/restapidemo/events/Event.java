@@ -1,7 +1,12 @@
 package com.example.restapidemo.events;
 
 import com.example.restapidemo.accounts.Account;
+import com.example.restapidemo.accounts.AccountSerializer;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
@@ -9,9 +14,18 @@ import java.time.LocalDateTime;
 @Builder @NoArgsConstructor @AllArgsConstructor
 @Getter @Setter @EqualsAndHashCode(of = "id")
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_event_status_begin_event", columnList = "eventStatus, beginEventDateTime"),
+        @Index(name = "idx_event_status_begin_enrollment", columnList = "eventStatus, beginEnrollmentDateTime"),
+        @Index(name = "idx_event_free_offline_begin_event", columnList = "free, offline, beginEventDateTime"),
+        @Index(name = "idx_event_base_price", columnList = "basePrice")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "event")
 public class Event {
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "event_seq")
+    @SequenceGenerator(name = "event_seq", sequenceName = "event_seq", allocationSize = 50)
     private Integer id;
     private String name;
     private String description;
@@ -28,7 +42,12 @@ public class Event {
     @Enumerated(EnumType.STRING)
     private EventStatus eventStatus = EventStatus.DRAFT;
 
-    @ManyToOne
+    @Version
+    @JsonIgnore
+    private int version;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JsonSerialize(using = AccountSerializer.class)
     private Account manager;
 
     public void update() {
@@ -0,0 +1,17 @@
+package com.example.restapidemo.events;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.validation.Errors;
+
+/**
+ * 일괄 생성 요청에서 index 번째 이벤트의 검증 오류
+ */
+@Getter
+@RequiredArgsConstructor
+public class EventBatchError {
+    private final int index;
+    @JsonUnwrapped
+    private final Errors errors;
+}
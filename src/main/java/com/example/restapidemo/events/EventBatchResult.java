@@ -0,0 +1,20 @@
+package com.example.restapidemo.events;
+
+import lombok.Getter;
+import org.springframework.hateoas.RepresentationModel;
+
+import java.util.List;
+
+/**
+ * 일괄 생성 결과 요약. 생성된 이벤트 본문 대신 개수와 id 만 담는다.
+ */
+@Getter
+public class EventBatchResult extends RepresentationModel<EventBatchResult> {
+    private final int created;
+    private final List<Integer> ids;
+
+    public EventBatchResult(List<Integer> ids) {
+        this.created = ids.size();
+        this.ids = ids;
+    }
+}
@@ -1,99 +1,491 @@
 package com.example.restapidemo.events;
 
+import com.example.restapidemo.common.ApiLinks;
+import com.example.restapidemo.common.BinaryMediaTypes;
+import com.example.restapidemo.common.EntityTags;
 import com.example.restapidemo.common.ErrorsResource;
+import com.example.restapidemo.common.HandlerExecutor;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.hateoas.PagedModel;
-import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BeanPropertyBindingResult;
 import org.springframework.validation.Errors;
 import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.util.UriComponentsBuilder;
 
 import javax.validation.Valid;
+import java.io.IOException;
 import java.net.URI;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @RestController
 @RequiredArgsConstructor
-@RequestMapping(value = "/api/events", produces = MediaTypes.HAL_JSON_VALUE)
+@RequestMapping(value = ApiLinks.EVENTS_PATH,
+        produces = {MediaTypes.HAL_JSON_VALUE, BinaryMediaTypes.CBOR_VALUE, BinaryMediaTypes.SMILE_VALUE})
 public class EventController {
 
+    public static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+
     private final EventRepository eventRepository;
-    private final ModelMapper modelMapper;
+    private final EventMapper eventMapper;
+    private final EventExporter eventExporter;
+    private final EventSearchIndex eventSearchIndex;
+    private final EnrollmentSeats enrollmentSeats;
+    private final EventStatusScheduler eventStatusScheduler;
+    private final EventResponseCache eventResponseCache;
+    private final EventStatistics eventStatistics;
+    private final HandlerExecutor handlerExecutor;
+    private final EventValidator eventValidator;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
 
+    /**
+     * {@code @Valid} 가 붙은 EventDto 는 Bean Validation 대신 EventValidator 하나로 검증한다.
+     */
     @InitBinder("eventDto")
     public void initBinder(WebDataBinder webDataBinder) {
-        webDataBinder.addValidators(new EventValidator());
+        webDataBinder.setValidator(eventValidator);
     }
 
     @PostMapping
-    public ResponseEntity createEvent(@RequestBody @Valid EventDto eventDto, Errors errors) {
-        if (errors.hasErrors()) {
-            return ResponseEntity.badRequest().body(ErrorsResource.modelOf(errors));
-        }
+    public Object createEvent(@RequestBody @Valid EventDto eventDto, Errors errors) {
+        return handlerExecutor.execute(() -> {
+            if (errors.hasErrors()) {
+                countValidationFailure("create");
+                return ResponseEntity.badRequest().body(ErrorsResource.modelOf(errors));
+            }
+
+            Event event = eventMapper.toEvent(eventDto);
+            event.update();
+            Event newEvent = eventRepository.save(event);
+            eventSearchIndex.index(newEvent);
+            eventStatistics.add(newEvent);
+            URI createdUri = URI.create(ApiLinks.event(newEvent.getId()));
+
+            EventResource eventResource = new EventResource(event);
+            eventResource.add(ApiLinks.eventsLink("query-events"));
+            eventResource.add(ApiLinks.eventLink(newEvent.getId(), "update-event"));
+            eventResource.add(ApiLinks.profile("resources-events-create"));
+            return ResponseEntity.created(createdUri).eTag(EntityTags.of(newEvent.getVersion())).body(eventResource);
+        });
+    }
+
+    /**
+     * 이벤트 일괄 생성. 모든 항목을 검증한 뒤 하나라도 잘못되면 항목별 오류를 응답하고 아무것도 저장하지 않는다.
+     * 저장은 JDBC batch insert 로 처리하며 응답은 생성된 id 목록만 담는다.
+     */
+    @PostMapping("/batch")
+    public Object createEvents(@RequestBody List<EventDto> eventDtos) {
+        return handlerExecutor.execute(() -> {
+            List<EventBatchError> batchErrors = new ArrayList<>();
+            for (int i = 0; i < eventDtos.size(); i++) {
+                EventDto eventDto = eventDtos.get(i);
+                Errors errors = new BeanPropertyBindingResult(eventDto, "eventDto");
+                eventValidator.validate(eventDto, errors);
+                if (errors.hasErrors()) {
+                    batchErrors.add(new EventBatchError(i, errors));
+                }
+            }
+            if (!batchErrors.isEmpty()) {
+                countValidationFailure("batch");
+                return ResponseEntity.badRequest().body(ErrorsResource.modelOf(batchErrors));
+            }
 
-        Event event = modelMapper.map(eventDto, Event.class);
-        event.update();
-        Event newEvent = eventRepository.save(event);
-        WebMvcLinkBuilder selfLinkBuilder = linkTo(EventController.class).slash(newEvent.getId());
-        URI createdUri = selfLinkBuilder.toUri();
+            List<Event> events = new ArrayList<>(eventDtos.size());
+            for (EventDto eventDto : eventDtos) {
+                Event event = eventMapper.toEvent(eventDto);
+                event.update();
+                events.add(event);
+            }
+            List<Event> savedEvents = eventRepository.saveAll(events);
+            for (Event savedEvent : savedEvents) {
+                eventSearchIndex.index(savedEvent);
+                eventStatistics.add(savedEvent);
+            }
+            List<Integer> ids = savedEvents.stream()
+                    .map(Event::getId)
+                    .collect(Collectors.toList());
 
-        EventResource eventResource = new EventResource(event);
-        eventResource.add(linkTo(EventController.class).withRel("query-events"));
-        eventResource.add(selfLinkBuilder.withRel("update-event"));
-        eventResource.add(Link.of("/docs/index.html#resources-events-create").withRel("profile"));
-        return ResponseEntity.created(createdUri).body(eventResource);
+            EventBatchResult batchResult = new EventBatchResult(ids);
+            batchResult.add(ApiLinks.eventsLink("query-events"));
+            batchResult.add(ApiLinks.profile("resources-events-batch"));
+            return ResponseEntity.status(HttpStatus.CREATED).body(batchResult);
+        });
+    }
+
+    private void countValidationFailure(String operation) {
+        meterRegistry.counter("event.validation.failures", "operation", operation).increment();
     }
 
     @GetMapping
-    public ResponseEntity queryEvents(Pageable pageable, PagedResourcesAssembler<Event> assembler) {
-        Page<Event> events = eventRepository.findAll(pageable);
-        PagedModel<EntityModel<Event>> entityModels =
-                assembler.toModel(events, e -> new EventResource(e));
-        entityModels.add(Link.of("/docs/index.html#resources-query-events").withRel("profile"));
+    public Object queryEvents(Pageable pageable,
+                              PagedResourcesAssembler<EventSummary> assembler,
+                              @RequestParam(required = false) String after,
+                              @RequestParam(required = false) String before,
+                              @RequestParam(required = false) String q) {
+        return handlerExecutor.execute(() -> {
+            if (q != null) {
+                return queryEventsByKeyword(q, pageable.getPageSize());
+            }
+            if (after != null || before != null) {
+                return queryEventsByCursor(pageable, after, before);
+            }
+
+            Page<EventSummary> events = eventRepository.findAllSummaries(pageable);
+            PagedModel<EntityModel<EventSummary>> entityModels =
+                    assembler.toModel(events, e -> EntityModel.of(e, ApiLinks.eventLink(e.getId(), IanaLinkRelations.SELF)));
+            entityModels.add(ApiLinks.profile("resources-query-events"));
+            return ResponseEntity.ok(entityModels);
+        });
+    }
+
+    /**
+     * keyset 페이징. offset 과 count 쿼리 없이 (정렬 키, id) 기준으로 커서 다음/이전 페이지를 조회한다.
+     * 빈 after 는 첫 페이지, 빈 before 는 마지막 페이지를 뜻하며 이때만 sort 파라미터를 사용한다.
+     */
+    private ResponseEntity queryEventsByCursor(Pageable pageable, String after, String before) {
+        boolean backward = after == null;
+        String token = backward ? before : after;
+
+        EventCursor cursor = null;
+        EventCursor.Key key;
+        Sort.Direction direction;
+        if (token.isEmpty()) {
+            Sort.Order order = pageable.getSort().stream().findFirst().orElse(Sort.Order.asc("id"));
+            Optional<EventCursor.Key> sortKey = EventCursor.Key.of(order.getProperty());
+            if (sortKey.isEmpty()) {
+                return ResponseEntity.badRequest().build();
+            }
+            key = sortKey.get();
+            direction = order.getDirection();
+        } else {
+            Optional<EventCursor> decoded = EventCursor.decode(token);
+            if (decoded.isEmpty()) {
+                return ResponseEntity.badRequest().build();
+            }
+            cursor = decoded.get();
+            key = cursor.getKey();
+            direction = cursor.getDirection();
+        }
+
+        int size = pageable.getPageSize();
+        List<EventSummary> events = eventRepository.findByCursor(key, direction, cursor, backward, size + 1);
+        boolean hasMore = events.size() > size;
+        if (hasMore) {
+            events = backward ? events.subList(1, events.size()) : events.subList(0, size);
+        }
+        boolean hasNext = backward ? cursor != null : hasMore;
+        boolean hasPrev = backward ? hasMore : cursor != null;
+
+        List<EntityModel<EventSummary>> eventResources = events.stream()
+                .map(e -> EntityModel.of(e, ApiLinks.eventLink(e.getId(), IanaLinkRelations.SELF)))
+                .collect(Collectors.toList());
+        CollectionModel<EntityModel<EventSummary>> entityModels = CollectionModel.of(eventResources);
+        entityModels.add(cursorLink(backward ? "before" : "after", token, size, IanaLinkRelations.SELF));
+        if (hasNext && !events.isEmpty()) {
+            EventSummary last = events.get(events.size() - 1);
+            entityModels.add(cursorLink("after", EventCursor.of(key, direction, last).encode(), size, IanaLinkRelations.NEXT));
+        }
+        if (hasPrev && !events.isEmpty()) {
+            EventSummary first = events.get(0);
+            entityModels.add(cursorLink("before", EventCursor.of(key, direction, first).encode(), size, IanaLinkRelations.PREV));
+        }
+        entityModels.add(ApiLinks.profile("resources-query-events"));
         return ResponseEntity.ok(entityModels);
     }
 
+    /**
+     * 이름/설명 전문 검색. 인메모리 색인에서 점수 순으로 id 를 찾은 뒤 해당 이벤트만 id 로 읽어 순서대로 응답한다.
+     */
+    private ResponseEntity queryEventsByKeyword(String q, int size) {
+        List<Integer> ids = eventSearchIndex.search(q, size);
+        Map<Integer, Event> eventsById = eventRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Event::getId, Function.identity()));
+        List<EntityModel<Event>> eventResources = ids.stream()
+                .map(eventsById::get)
+                .filter(Objects::nonNull)
+                .<EntityModel<Event>>map(e -> new EventResource(e))
+                .collect(Collectors.toList());
+
+        CollectionModel<EntityModel<Event>> entityModels = CollectionModel.of(eventResources);
+        String self = UriComponentsBuilder.fromUriString(ApiLinks.events())
+                .queryParam("q", q)
+                .queryParam("size", size)
+                .encode()
+                .toUriString();
+        entityModels.add(Link.of(self, IanaLinkRelations.SELF));
+        entityModels.add(ApiLinks.profile("resources-query-events"));
+        return ResponseEntity.ok(entityModels);
+    }
+
+    private Link cursorLink(String param, String cursor, int size, LinkRelation relation) {
+        String href = UriComponentsBuilder.fromUriString(ApiLinks.events())
+                .queryParam(param, cursor)
+                .queryParam("size", size)
+                .toUriString();
+        return Link.of(href, relation);
+    }
+
+    @GetMapping("/search")
+    public Object searchEvents(EventSearch search,
+                               Pageable pageable,
+                               PagedResourcesAssembler<Event> assembler) {
+        return handlerExecutor.execute(() -> {
+            Page<Event> events = eventRepository.findAll(EventSpecifications.of(search), pageable);
+            PagedModel<EntityModel<Event>> entityModels =
+                    assembler.toModel(events, e -> new EventResource(e));
+            entityModels.add(ApiLinks.profile("resources-events-search"));
+            return ResponseEntity.ok(entityModels);
+        });
+    }
+
+    @GetMapping(value = "/export", produces = EventExporter.NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportEvents() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(EventExporter.NDJSON_VALUE))
+                .body(eventExporter::export);
+    }
+
+    /**
+     * 시작 시 만든 인메모리 집계를 그대로 응답하므로 이벤트 수와 관계없이 비용이 일정하다.
+     */
+    @GetMapping("/stats")
+    public Object getEventStats() {
+        return handlerExecutor.execute(() -> {
+            EventStats eventStats = eventStatistics.snapshot();
+            eventStats.add(Link.of(ApiLinks.events() + "/stats").withSelfRel());
+            eventStats.add(ApiLinks.eventsLink("query-events"));
+            eventStats.add(ApiLinks.profile("resources-events-stats"));
+            return ResponseEntity.ok(eventStats);
+        });
+    }
+
+    /**
+     * 같은 이벤트를 동시에 조회하면 EventResponseCache 가 한 번만 읽고 직렬화한다.
+     * HAL JSON 을 원하는 요청에는 직렬화된 바이트를 그대로 쓰고, CBOR/Smile 요청은 같은 이벤트로 모델을 다시 만든다.
+     */
     @GetMapping("/{id}")
-    public ResponseEntity getEvent(@PathVariable("id") Integer id) {
-        Optional<Event> optionalEvent = eventRepository.findById(id);
-        if (optionalEvent.isEmpty()) {
-            return ResponseEntity.notFound().build();
+    public Object getEvent(@PathVariable("id") Integer id,
+                           @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                           @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        return handlerExecutor.execute(() -> {
+            if (ifNoneMatch != null) {
+                // 버전 컬럼만 읽어 비교하고, 바뀌지 않았으면 엔티티 로딩과 직렬화 없이 304 를 응답한다.
+                EventResponseCache.Snapshot cached = eventResponseCache.peek(id);
+                Optional<Integer> version = cached != null
+                        ? Optional.of(cached.getEvent().getVersion())
+                        : eventRepository.findVersionById(id);
+                if (version.isEmpty()) {
+                    return ResponseEntity.notFound().build();
+                }
+                // 본문이 없어 EntityTagAdvice 를 거치지 않으므로 협상될 표현의 태그를 직접 만든다.
+                String eTag = EntityTags.of(version.get(), representationOf(accept));
+                if (EntityTags.matches(ifNoneMatch, eTag, true)) {
+                    return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).varyBy(HttpHeaders.ACCEPT).build();
+                }
+            }
+
+            EventResponseCache.Snapshot snapshot = eventResponseCache.get(id);
+            if (snapshot == null) {
+                return ResponseEntity.notFound().build();
+            }
+            if (MediaTypes.HAL_JSON.equals(representationOf(accept))) {
+                return ResponseEntity.ok().contentType(MediaTypes.HAL_JSON).eTag(snapshot.getETag()).body(snapshot.getBody());
+            }
+            EventResource eventResource = new EventResource(snapshot.getEvent());
+            eventResource.add(ApiLinks.profile("resources-events-get"));
+            // 조건부 요청 검사가 본문 협상보다 먼저 돌므로 JSON 태그로 304 가 나지 않게 표현별 태그를 미리 붙인다.
+            String eTag = EntityTags.forRepresentation(snapshot.getETag(), representationOf(accept));
+            return ResponseEntity.ok().eTag(eTag).body(eventResource);
+        });
+    }
+
+    /**
+     * 콘텐츠 협상으로 고를 표현. 생산 가능한 타입 중 가장 선호되는 것을 고르는 Spring 의 규칙을 따르며, 판단할 수 없으면 null 이다.
+     */
+    private static MediaType representationOf(String accept) {
+        if (accept == null) {
+            return MediaTypes.HAL_JSON;
+        }
+        List<MediaType> acceptedTypes;
+        try {
+            acceptedTypes = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return null;
+        }
+        MediaType.sortBySpecificityAndQuality(acceptedTypes);
+        for (MediaType acceptedType : acceptedTypes) {
+            if (acceptedType.isCompatibleWith(MediaTypes.HAL_JSON)) {
+                return MediaTypes.HAL_JSON;
+            }
+            if (acceptedType.isCompatibleWith(BinaryMediaTypes.CBOR)) {
+                return BinaryMediaTypes.CBOR;
+            }
+            if (acceptedType.isCompatibleWith(BinaryMediaTypes.SMILE)) {
+                return BinaryMediaTypes.SMILE;
+            }
         }
-        Event event = optionalEvent.get();
-        EventResource eventResource = new EventResource(event);
-        eventResource.add(Link.of("/docs/index.html#resources-events-get").withRel("profile"));
-        return ResponseEntity.ok(eventResource);
+        return null;
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity updateEvent(@PathVariable("id") Integer id,
-                                      @RequestBody EventDto eventDto,
-                                      Errors errors) {
-        Optional<Event> optionalEvent = eventRepository.findById(id);
-        if (optionalEvent.isEmpty()) {
-            return ResponseEntity.notFound().build();
-        }
+    public Object updateEvent(@PathVariable("id") Integer id,
+                              @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                              @RequestBody @Valid EventDto eventDto,
+                              Errors errors) {
+        return handlerExecutor.execute(() -> {
+            Optional<Event> optionalEvent = eventRepository.findById(id);
+            if (optionalEvent.isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
 
-        if (errors.hasErrors()) {
-            return ResponseEntity.badRequest().body(ErrorsResource.modelOf(errors));
-        }
+            if (errors.hasErrors()) {
+                countValidationFailure("update");
+                return ResponseEntity.badRequest().body(ErrorsResource.modelOf(errors));
+            }
+
+            Event event = optionalEvent.get();
+            if (ifMatch != null && !EntityTags.matchesVersion(ifMatch, event.getVersion())) {
+                return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+            }
 
-        Event event = optionalEvent.get();
-        modelMapper.map(eventDto, event);
-        Event savedEvent = eventRepository.save(event);
+            LocalDateTime beginEnrollment = event.getBeginEnrollmentDateTime();
+            LocalDateTime closeEnrollment = event.getCloseEnrollmentDateTime();
+            EventStatistics.Sample before = EventStatistics.Sample.of(event);
+            eventMapper.update(eventDto, event);
+            event.update();
+            Event savedEvent;
+            try {
+                savedEvent = eventRepository.save(event);
+            } catch (OptimisticLockingFailureException e) {
+                return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+            }
+            eventResponseCache.invalidate(id);
+            eventStatistics.replace(before, savedEvent);
+            eventSearchIndex.index(savedEvent);
+            enrollmentSeats.refresh(savedEvent);
+            if (!Objects.equals(beginEnrollment, savedEvent.getBeginEnrollmentDateTime())
+                    || !Objects.equals(closeEnrollment, savedEvent.getCloseEnrollmentDateTime())) {
+                eventStatusScheduler.schedule(savedEvent);
+            }
 
-        EventResource eventResource = new EventResource(savedEvent);
-        eventResource.add(Link.of("/docs/index.html#resources-events-update").withRel("profile"));
-        return ResponseEntity.ok(eventResource);
+            EventResource eventResource = new EventResource(savedEvent);
+            eventResource.add(ApiLinks.profile("resources-events-update"));
+            return ResponseEntity.ok().eTag(EntityTags.of(savedEvent.getVersion())).body(eventResource);
+        });
+    }
+
+    /**
+     * JSON Merge Patch 부분 수정. 보낸 필드와 그 필드가 관여하는 규칙만 검증하고, 해당 컬럼만 version 조건부 UPDATE 로 바꾼다.
+     * If-Match 가 없으면 조회한 시점의 버전을 기준으로 하며, 그 사이 다른 수정이 있었다면 412 를 응답한다.
+     */
+    @PatchMapping(value = "/{id}", consumes = MERGE_PATCH_JSON_VALUE)
+    public Object patchEvent(@PathVariable("id") Integer id,
+                             @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                             @RequestBody JsonNode patch) {
+        return handlerExecutor.execute(() -> {
+            if (!patch.isObject()) {
+                return ResponseEntity.badRequest().build();
+            }
+            Optional<Event> optionalEvent = eventRepository.findById(id);
+            if (optionalEvent.isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+            Event event = optionalEvent.get();
+            if (ifMatch != null && !EntityTags.matchesVersion(ifMatch, event.getVersion())) {
+                return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+            }
+
+            EventDto eventDto;
+            try {
+                // 수정할 수 없는 필드(eventStatus 등)가 조용히 무시되지 않도록 항상 거부한다.
+                eventDto = objectMapper.readerForUpdating(eventMapper.toDto(event))
+                        .with(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                        .readValue(patch);
+            } catch (IOException e) {
+                return ResponseEntity.badRequest().build();
+            }
+            List<String> changedFields = new ArrayList<>();
+            patch.fieldNames().forEachRemaining(changedFields::add);
+
+            Errors errors = new BeanPropertyBindingResult(eventDto, "eventDto");
+            eventValidator.validate(eventDto, errors, changedFields);
+            if (errors.hasErrors()) {
+                countValidationFailure("patch");
+                return ResponseEntity.badRequest().body(ErrorsResource.modelOf(errors));
+            }
+
+            EventStatistics.Sample before = EventStatistics.Sample.of(event);
+            Optional<Event> patchedEvent = eventRepository.patch(id, event.getVersion(), changedValues(eventDto, changedFields));
+            if (patchedEvent.isEmpty()) {
+                return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+            }
+            Event savedEvent = patchedEvent.get();
+            eventResponseCache.invalidate(id);
+            eventStatistics.replace(before, savedEvent);
+            if (changedFields.contains("name") || changedFields.contains("description")) {
+                eventSearchIndex.index(savedEvent);
+            }
+            enrollmentSeats.refresh(savedEvent);
+            if (changedFields.contains("beginEnrollmentDateTime") || changedFields.contains("closeEnrollmentDateTime")) {
+                eventStatusScheduler.schedule(savedEvent);
+            }
+
+            EventResource eventResource = new EventResource(savedEvent);
+            eventResource.add(ApiLinks.profile("resources-events-patch"));
+            return ResponseEntity.ok().eTag(EntityTags.of(savedEvent.getVersion())).body(eventResource);
+        });
+    }
+
+    /**
+     * 바뀐 필드의 값과, 그 값으로 다시 계산되는 free/offline 컬럼
+     */
+    private Map<String, Object> changedValues(EventDto eventDto, List<String> changedFields) {
+        BeanWrapper eventDtoWrapper = PropertyAccessorFactory.forBeanPropertyAccess(eventDto);
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (String field : changedFields) {
+            values.put(field, eventDtoWrapper.getPropertyValue(field));
+        }
+
+        Event derived = eventMapper.toEvent(eventDto);
+        derived.update();
+        if (values.containsKey("basePrice") || values.containsKey("maxPrice")) {
+            values.put("free", derived.isFree());
+        }
+        if (values.containsKey("location")) {
+            values.put("offline", derived.isOffline());
+        }
+        return values;
     }
 }
@@ -0,0 +1,109 @@
+package com.example.restapidemo.events;
+
+import lombok.Getter;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * keyset 페이징에 사용하는 커서. (정렬 키, id) 쌍과 정렬 방향을 불투명한 문자열로 인코딩한다.
+ * 정렬 키가 null 이면 값 부분을 생략한다.
+ */
+@Getter
+public class EventCursor {
+
+    private static final String DELIMITER = ":";
+
+    private final Key key;
+    private final Sort.Direction direction;
+    private final Comparable<?> value;
+    private final Integer id;
+
+    private EventCursor(Key key, Sort.Direction direction, Comparable<?> value, Integer id) {
+        this.key = key;
+        this.direction = direction;
+        this.value = value;
+        this.id = id;
+    }
+
+    public static EventCursor of(Key key, Sort.Direction direction, EventSummary event) {
+        return new EventCursor(key, direction, key.valueOf(event), event.getId());
+    }
+
+    public static Optional<EventCursor> decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(DELIMITER, 4);
+            if (parts.length < 3) {
+                return Optional.empty();
+            }
+            Optional<Key> key = Key.of(parts[0]);
+            if (key.isEmpty() || (parts.length == 3 && !key.get().isNullable())) {
+                return Optional.empty();
+            }
+            return Optional.of(new EventCursor(
+                    key.get(),
+                    Sort.Direction.fromString(parts[1]),
+                    parts.length == 3 ? null : key.get().parse(parts[3]),
+                    Integer.valueOf(parts[2])));
+        } catch (RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    public String encode() {
+        String raw = key.getProperty() + DELIMITER + direction.name() + DELIMITER + id;
+        if (value != null) {
+            raw += DELIMITER + value;
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 정렬에 사용할 수 있는 컬럼 목록. nullable 컬럼은 null 을 가장 작은 값으로 정렬한다(오름차순이면 NULLS FIRST).
+     */
+    @Getter
+    public enum Key {
+        ID("id", false, EventSummary::getId, Integer::valueOf),
+        NAME("name", true, EventSummary::getName, s -> s),
+        BEGIN_ENROLLMENT_DATE_TIME("beginEnrollmentDateTime", true, EventSummary::getBeginEnrollmentDateTime, LocalDateTime::parse),
+        CLOSE_ENROLLMENT_DATE_TIME("closeEnrollmentDateTime", true, EventSummary::getCloseEnrollmentDateTime, LocalDateTime::parse),
+        BEGIN_EVENT_DATE_TIME("beginEventDateTime", true, EventSummary::getBeginEventDateTime, LocalDateTime::parse),
+        END_EVENT_DATE_TIME("endEventDateTime", true, EventSummary::getEndEventDateTime, LocalDateTime::parse),
+        BASE_PRICE("basePrice", false, EventSummary::getBasePrice, Integer::valueOf),
+        MAX_PRICE("maxPrice", false, EventSummary::getMaxPrice, Integer::valueOf);
+
+        private final String property;
+        private final boolean nullable;
+        private final Function<EventSummary, Comparable<?>> extractor;
+        private final Function<String, Comparable<?>> parser;
+
+        Key(String property, boolean nullable, Function<EventSummary, Comparable<?>> extractor, Function<String, Comparable<?>> parser) {
+            this.property = property;
+            this.nullable = nullable;
+            this.extractor = extractor;
+            this.parser = parser;
+        }
+
+        public static Optional<Key> of(String property) {
+            for (Key key : values()) {
+                if (key.property.equals(property)) {
+                    return Optional.of(key);
+                }
+            }
+            return Optional.empty();
+        }
+
+        Comparable<?> valueOf(EventSummary event) {
+            return extractor.apply(event);
+        }
+
+        Comparable<?> parse(String value) {
+            return parser.apply(value);
+        }
+    }
+}
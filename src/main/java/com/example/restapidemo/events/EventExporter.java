@@ -0,0 +1,48 @@
+package com.example.restapidemo.events;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 모든 이벤트를 줄 단위 JSON(NDJSON)으로 내보낸다.
+ * DB 커서로 한 건씩 읽고 쓴 뒤 바로 detach 하므로 이벤트 수와 관계없이 영속성 컨텍스트가 커지지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class EventExporter {
+
+    public static final String NDJSON_VALUE = "application/x-ndjson";
+
+    private final EventRepository eventRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public void export(OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(Event.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator gen = objectMapper.getFactory().createGenerator(out);
+             Stream<Event> events = eventRepository.streamAll()) {
+            gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            gen.setRootValueSeparator(null);
+            Iterator<Event> iterator = events.iterator();
+            while (iterator.hasNext()) {
+                Event event = iterator.next();
+                writer.writeValue(gen, event);
+                gen.writeRaw('\n');
+                entityManager.detach(event);
+            }
+        }
+    }
+}
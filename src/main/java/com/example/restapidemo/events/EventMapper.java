@@ -0,0 +1,44 @@
+package com.example.restapidemo.events;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * EventDto 와 Event 간 매핑. 리플렉션 없이 필드를 직접 복사하며, null 을 포함한 모든 값을 그대로 덮어쓴다.
+ */
+@Component
+public class EventMapper {
+
+    public Event toEvent(EventDto eventDto) {
+        Event event = new Event();
+        update(eventDto, event);
+        return event;
+    }
+
+    public EventDto toDto(Event event) {
+        return EventDto.builder()
+                .name(event.getName())
+                .description(event.getDescription())
+                .beginEnrollmentDateTime(event.getBeginEnrollmentDateTime())
+                .closeEnrollmentDateTime(event.getCloseEnrollmentDateTime())
+                .beginEventDateTime(event.getBeginEventDateTime())
+                .endEventDateTime(event.getEndEventDateTime())
+                .location(event.getLocation())
+                .basePrice(event.getBasePrice())
+                .maxPrice(event.getMaxPrice())
+                .limitOfEnrollment(event.getLimitOfEnrollment())
+                .build();
+    }
+
+    public void update(EventDto eventDto, Event event) {
+        event.setName(eventDto.getName());
+        event.setDescription(eventDto.getDescription());
+        event.setBeginEnrollmentDateTime(eventDto.getBeginEnrollmentDateTime());
+        event.setCloseEnrollmentDateTime(eventDto.getCloseEnrollmentDateTime());
+        event.setBeginEventDateTime(eventDto.getBeginEventDateTime());
+        event.setEndEventDateTime(eventDto.getEndEventDateTime());
+        event.setLocation(eventDto.getLocation());
+        event.setBasePrice(eventDto.getBasePrice());
+        event.setMaxPrice(eventDto.getMaxPrice());
+        event.setLimitOfEnrollment(eventDto.getLimitOfEnrollment());
+    }
+}
@@ -1,6 +1,79 @@
 package com.example.restapidemo.events;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-public interface EventRepository extends JpaRepository<Event, Integer> {
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * 선언한 조회 메서드는 스프링 데이터가 트랜잭션을 걸지 않아 복제본 라우팅이 읽기 전용 여부를 알 수 없으므로 읽기 전용 트랜잭션을 기본으로 건다.
+ */
+@Transactional(readOnly = true)
+public interface EventRepository extends JpaRepository<Event, Integer>, JpaSpecificationExecutor<Event>,
+        EventRepositoryCustom {
+
+    @Query("select e.version from Event e where e.id = :id")
+    Optional<Integer> findVersionById(@Param("id") Integer id);
+
+    List<Event> findByEventStatus(EventStatus eventStatus);
+
+    @Query("select e.id from Event e where e.id in :ids and e.eventStatus = :status")
+    List<Integer> findIdsByEventStatus(@Param("ids") Collection<Integer> ids, @Param("status") EventStatus status);
+
+    @QueryHints(@QueryHint(name = org.hibernate.annotations.QueryHints.FETCH_SIZE, value = "500"))
+    @Query("select e.id, e.eventStatus, e.beginEnrollmentDateTime, e.closeEnrollmentDateTime " +
+            "from Event e where e.eventStatus in :statuses")
+    Stream<Object[]> streamEnrollmentSchedules(@Param("statuses") Collection<EventStatus> statuses);
+
+    /**
+     * 일괄 상태 전이. 현재 상태가 from 중 하나이고 기준 일시가 지난 이벤트만 바꾸므로 늦거나 중복된 호출도 안전하다.
+     * bulk UPDATE 는 @Version 을 올리지 않으므로 직접 올려 ETag 와 낙관적 잠금에 반영한다.
+     */
+    @Transactional
+    @Modifying
+    @Query("update Event e set e.eventStatus = :to, e.version = e.version + 1 " +
+            "where e.id in :ids and e.eventStatus in :from and e.beginEnrollmentDateTime <= :now")
+    int beginEnrollment(@Param("ids") Collection<Integer> ids, @Param("from") Collection<EventStatus> from,
+                        @Param("to") EventStatus to, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("update Event e set e.eventStatus = :to, e.version = e.version + 1 " +
+            "where e.id in :ids and e.eventStatus in :from and e.closeEnrollmentDateTime <= :now")
+    int closeEnrollment(@Param("ids") Collection<Integer> ids, @Param("from") Collection<EventStatus> from,
+                        @Param("to") EventStatus to, @Param("now") LocalDateTime now);
+
+    @Query(value = "select new com.example.restapidemo.events.EventSummary(" +
+            "e.id, e.name, e.description, e.beginEnrollmentDateTime, e.closeEnrollmentDateTime, " +
+            "e.beginEventDateTime, e.endEventDateTime, e.location, e.basePrice, e.maxPrice, " +
+            "e.limitOfEnrollment, e.offline, e.free, e.eventStatus, e.manager.id) from Event e",
+            countQuery = "select count(e) from Event e")
+    Page<EventSummary> findAllSummaries(Pageable pageable);
+
+    @QueryHints(@QueryHint(name = org.hibernate.annotations.QueryHints.FETCH_SIZE, value = "500"))
+    @Query("select e from Event e order by e.id")
+    Stream<Event> streamAll();
+
+    @QueryHints(@QueryHint(name = org.hibernate.annotations.QueryHints.FETCH_SIZE, value = "500"))
+    @Query("select e.id, e.name, e.description from Event e")
+    Stream<Object[]> streamSearchTexts();
+
+    @QueryHints(@QueryHint(name = org.hibernate.annotations.QueryHints.FETCH_SIZE, value = "500"))
+    @Query("select e.eventStatus, e.free, e.offline, e.basePrice, e.maxPrice from Event e")
+    Stream<Object[]> streamStatistics();
+
+    @Query("select e.id, e.eventStatus from Event e where e.id in :ids")
+    List<Object[]> findStatusesByIds(@Param("ids") Collection<Integer> ids);
 }
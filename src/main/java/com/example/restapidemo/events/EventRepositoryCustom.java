@@ -0,0 +1,24 @@
+package com.example.restapidemo.events;
+
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public interface EventRepositoryCustom {
+
+    /**
+     * (정렬 키, id) 기준 seek 쿼리로 커서 다음 이벤트를 최대 limit 개 목록용 projection 으로 조회한다. count 쿼리는 실행하지 않는다.
+     * cursor 가 null 이면 처음부터 조회하고, backward 가 true 이면 커서 이전 이벤트를 조회한다.
+     * 결과는 항상 direction 기준으로 정렬되어 반환된다.
+     */
+    List<EventSummary> findByCursor(EventCursor.Key key, Sort.Direction direction, EventCursor cursor,
+                             boolean backward, int limit);
+
+    /**
+     * 주어진 속성만 UPDATE 하고 버전을 1 올린다. 행 잠금 없이 version 조건으로 동시 수정을 막으며,
+     * 그 사이 다른 수정이 있었다면 아무것도 바꾸지 않고 빈 값을 반환한다.
+     */
+    Optional<Event> patch(Integer id, int version, Map<String, Object> values);
+}
@@ -0,0 +1,107 @@
+package com.example.restapidemo.events;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.CriteriaUpdate;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Order;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public class EventRepositoryImpl implements EventRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<EventSummary> findByCursor(EventCursor.Key key, Sort.Direction direction, EventCursor cursor,
+                                           boolean backward, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<EventSummary> query = cb.createQuery(EventSummary.class);
+        Root<Event> root = query.from(Event.class);
+        // 오프셋 목록(findAllSummaries)과 같은 컬럼만 읽고, 매니저는 조인 없이 외래키만 가져온다.
+        query.select(cb.construct(EventSummary.class,
+                root.get("id"), root.get("name"), root.get("description"),
+                root.get("beginEnrollmentDateTime"), root.get("closeEnrollmentDateTime"),
+                root.get("beginEventDateTime"), root.get("endEventDateTime"), root.get("location"),
+                root.get("basePrice"), root.get("maxPrice"), root.get("limitOfEnrollment"),
+                root.get("offline"), root.get("free"), root.get("eventStatus"), root.get("manager").get("id")));
+
+        boolean ascending = direction.isAscending() != backward;
+        if (cursor != null) {
+            query.where(seek(cb, root, key, cursor, ascending));
+        }
+        if (key == EventCursor.Key.ID) {
+            query.orderBy(order(cb, root.get("id"), ascending));
+        } else if (key.isNullable()) {
+            // DB 마다 다른 기본 null 정렬에 기대지 않고 null 을 가장 작은 값으로 둔다.
+            Expression<?> sortKey = root.get(key.getProperty());
+            Expression<Integer> nullsFirst = cb.<Integer>selectCase().when(cb.isNull(sortKey), 0).otherwise(1);
+            query.orderBy(order(cb, nullsFirst, ascending), order(cb, sortKey, ascending), order(cb, root.get("id"), ascending));
+        } else {
+            query.orderBy(order(cb, root.get(key.getProperty()), ascending), order(cb, root.get("id"), ascending));
+        }
+
+        List<EventSummary> events = entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+        if (backward) {
+            Collections.reverse(events);
+        }
+        return events;
+    }
+
+    @Override
+    @Transactional
+    public Optional<Event> patch(Integer id, int version, Map<String, Object> values) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Event> update = cb.createCriteriaUpdate(Event.class);
+        Root<Event> root = update.from(Event.class);
+        values.forEach(update::set);
+        Path<Integer> versionPath = root.get("version");
+        update.set(versionPath, cb.sum(versionPath, 1));
+        update.where(cb.equal(root.get("id"), id), cb.equal(versionPath, version));
+
+        if (entityManager.createQuery(update).executeUpdate() == 0) {
+            return Optional.empty();
+        }
+        // bulk UPDATE 는 영속성 컨텍스트를 거치지 않으므로 이미 로딩된 인스턴스를 DB 값으로 다시 읽는다.
+        Event event = entityManager.find(Event.class, id);
+        entityManager.refresh(event);
+        return Optional.of(event);
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private Predicate seek(CriteriaBuilder cb, Root<Event> root, EventCursor.Key key, EventCursor cursor, boolean ascending) {
+        Expression<Integer> id = root.get("id");
+        Predicate afterId = ascending ? cb.greaterThan(id, cursor.getId()) : cb.lessThan(id, cursor.getId());
+        if (key == EventCursor.Key.ID) {
+            return afterId;
+        }
+
+        Expression sortKey = root.get(key.getProperty());
+        Comparable value = cursor.getValue();
+        if (value == null) {
+            // null 은 가장 작으므로 오름차순이면 null 이 아닌 행이 모두 뒤에, 내림차순이면 남은 null 행만 뒤에 온다.
+            Predicate afterNull = cb.and(cb.isNull(sortKey), afterId);
+            return ascending ? cb.or(afterNull, cb.isNotNull(sortKey)) : afterNull;
+        }
+        Predicate afterValue = ascending ? cb.greaterThan(sortKey, value) : cb.lessThan(sortKey, value);
+        Predicate seek = cb.or(afterValue, cb.and(cb.equal(sortKey, value), afterId));
+        return key.isNullable() && !ascending ? cb.or(seek, cb.isNull(sortKey)) : seek;
+    }
+
+    private Order order(CriteriaBuilder cb, Expression<?> expression, boolean ascending) {
+        return ascending ? cb.asc(expression) : cb.desc(expression);
+    }
+}
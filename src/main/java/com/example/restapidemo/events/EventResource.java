@@ -1,15 +1,15 @@
 package com.example.restapidemo.events;
 
+import com.example.restapidemo.common.ApiLinks;
 import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.hateoas.Link;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-
 public class EventResource extends EntityModel<Event> {
 
     public EventResource(Event event, Link...links) {
         super(event, links);
-        add(linkTo(EventController.class).slash(event.getId()).withSelfRel());
+        add(ApiLinks.eventLink(event.getId(), IanaLinkRelations.SELF));
     }
 
 }
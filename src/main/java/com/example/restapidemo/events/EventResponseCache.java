@@ -0,0 +1,147 @@
+package com.example.restapidemo.events;
+
+import com.example.restapidemo.common.ApiLinks;
+import com.example.restapidemo.common.EntityTags;
+import com.example.restapidemo.common.HalObjectMappers;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.hateoas.server.LinkRelationProvider;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이벤트 단건 조회 응답의 single-flight 캐시. 같은 base URI 로 같은 id 를 동시에 조회하면 먼저 온 요청 하나만 이벤트를 읽고
+ * HAL JSON 으로 직렬화하며, 나머지는 그 결과를 기다려 함께 쓴다. 완료된 결과는 ttl(app.events.coalescing.ttl) 동안 재사용하고,
+ * 수정이 일어나면 invalidate 로 바로 버린다. ttl 이 0 이면 진행 중인 조회만 공유한다.
+ * base URI 마다 Caffeine AsyncCache 를 두어 만료된 응답은 캐시가 치우며, 진행 중인 조회는 완료될 때까지 만료되지 않는다.
+ */
+@Component
+public class EventResponseCache {
+
+    private static final int MAX_BASE_URIS = 64;
+
+    private final EventRepository eventRepository;
+    private final ObjectMapper halObjectMapper;
+    private final Duration ttl;
+    private final long maxSize;
+    private final ConcurrentMap<String, AsyncCache<Integer, Snapshot>> caches = new ConcurrentHashMap<>();
+
+    public EventResponseCache(EventRepository eventRepository,
+                              ObjectMapper objectMapper,
+                              LinkRelationProvider linkRelationProvider,
+                              @Value("${app.events.coalescing.ttl:50ms}") Duration ttl,
+                              @Value("${app.events.coalescing.max-size:10000}") long maxSize) {
+        this.eventRepository = eventRepository;
+        this.halObjectMapper = HalObjectMappers.hal(objectMapper.copy(), linkRelationProvider);
+        this.ttl = ttl;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 이벤트 조회 응답을 돌려준다. 이벤트가 없으면 null 이다.
+     */
+    public Snapshot get(Integer id) {
+        CompletableFuture<Snapshot> created = new CompletableFuture<>();
+        CompletableFuture<Snapshot> future = cacheFor(ApiLinks.baseUri()).get(id, (key, executor) -> created);
+        if (future != created) {
+            return join(future);
+        }
+
+        // 조회는 캐시의 compute 밖, 호출한 스레드에서 한다. 없는 이벤트(null)와 실패한 조회는 캐시가 바로 지운다.
+        Snapshot snapshot;
+        try {
+            snapshot = load(id);
+        } catch (RuntimeException e) {
+            created.completeExceptionally(e);
+            throw e;
+        }
+        created.complete(snapshot);
+        return snapshot;
+    }
+
+    /**
+     * ttl 안의 완료된 응답이 있으면 돌려준다. 없어도 조회하지 않는다.
+     */
+    public Snapshot peek(Integer id) {
+        AsyncCache<Integer, Snapshot> cache = caches.get(ApiLinks.baseUri());
+        CompletableFuture<Snapshot> future = cache == null ? null : cache.getIfPresent(id);
+        if (future == null || !future.isDone() || future.isCompletedExceptionally()) {
+            return null;
+        }
+        return future.join();
+    }
+
+    public void invalidate(Integer id) {
+        for (AsyncCache<Integer, Snapshot> cache : caches.values()) {
+            cache.synchronous().invalidate(id);
+        }
+    }
+
+    private AsyncCache<Integer, Snapshot> cacheFor(String baseUri) {
+        AsyncCache<Integer, Snapshot> cache = caches.get(baseUri);
+        if (cache != null) {
+            return cache;
+        }
+        // Host 헤더로 키가 무한히 늘어나지 않도록 상한을 넘으면 공유하지 않는다.
+        if (caches.size() >= MAX_BASE_URIS) {
+            return newCache();
+        }
+        return caches.computeIfAbsent(baseUri, key -> newCache());
+    }
+
+    private AsyncCache<Integer, Snapshot> newCache() {
+        return Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl.toNanos(), TimeUnit.NANOSECONDS)
+                .buildAsync();
+    }
+
+    private Snapshot load(Integer id) {
+        Event event = eventRepository.findById(id).orElse(null);
+        if (event == null) {
+            return null;
+        }
+        EventResource eventResource = new EventResource(event);
+        eventResource.add(ApiLinks.profile("resources-events-get"));
+        try {
+            return new Snapshot(event, EntityTags.of(event.getVersion()), halObjectMapper.writeValueAsBytes(eventResource));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Getter
+    public static final class Snapshot {
+        private final Event event;
+        private final String eTag;
+        private final byte[] body;
+
+        private Snapshot(Event event, String eTag, byte[] body) {
+            this.event = event;
+            this.eTag = eTag;
+            this.body = body;
+        }
+    }
+
+    private static Snapshot join(CompletableFuture<Snapshot> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.restapidemo.events;
+
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이벤트 검색 조건. 값이 없는 조건은 무시한다.
+ * 가격 범위(basePriceFrom/To)는 basePrice 에, 기간 조건은 등록/이벤트 시작 일시에 적용한다.
+ */
+@Data
+public class EventSearch {
+    private EventStatus eventStatus;
+    private Boolean free;
+    private Boolean offline;
+    private Integer basePriceFrom;
+    private Integer basePriceTo;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime enrollmentFrom;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime enrollmentTo;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime eventFrom;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime eventTo;
+}
@@ -0,0 +1,279 @@
+package com.example.restapidemo.events;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * 이벤트 이름과 설명에 대한 인메모리 역색인.
+ * 시작 시 DB 에서 한 번 만들고, 이벤트가 저장될 때마다 해당 이벤트만 다시 색인한다.
+ * 검색어의 각 토큰은 접두어로 일치하며(정확히 일치하면 가중치 2배), 모든 토큰에 일치하는 이벤트를 점수 순으로 돌려준다.
+ * 한 글자 토큰은 정확히 일치하는 단어만 찾고, 접두어가 펼쳐지는 단어 수도 제한해 짧은 검색어가 색인 전체를 훑지 않게 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class EventSearchIndex {
+
+    private static final int NAME_WEIGHT = 3;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    private static final int MIN_PREFIX_LENGTH = 2;
+    private static final int MAX_EXPANSIONS = 64;
+
+    private final EventRepository eventRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<String, Postings> terms = new TreeMap<>();
+    private final Map<Integer, String[]> documentTerms = new HashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            terms.clear();
+            documentTerms.clear();
+            try (Stream<Object[]> texts = eventRepository.streamSearchTexts()) {
+                texts.forEach(row -> put((Integer) row[0], (String) row[1], (String) row[2]));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void index(Event event) {
+        index(event.getId(), event.getName(), event.getDescription());
+    }
+
+    public void index(Integer id, String name, String description) {
+        lock.writeLock().lock();
+        try {
+            remove(id);
+            put(id, name, description);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documentTerms.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Integer> search(String query, int limit) {
+        Set<String> tokens = new LinkedHashSet<>(tokenize(query));
+        if (tokens.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        Scores scores = null;
+        lock.readLock().lock();
+        try {
+            for (String token : tokens) {
+                Scores tokenScores = match(token);
+                scores = scores == null ? tokenScores : scores.intersect(tokenScores);
+                if (scores.size == 0) {
+                    return List.of();
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return scores.top(limit);
+    }
+
+    /**
+     * 토큰과 정확히 일치하는 단어와, 토큰이 충분히 길면 토큰으로 시작하는 단어를 최대 MAX_EXPANSIONS 개까지 합친 점수
+     */
+    private Scores match(String token) {
+        Scores scores = new Scores(0);
+        Postings exact = terms.get(token);
+        if (exact != null) {
+            scores = scores.union(exact, 2f);
+        }
+        if (token.length() < MIN_PREFIX_LENGTH) {
+            return scores;
+        }
+        int expansions = 0;
+        for (Postings postings : terms.subMap(token, false, token + Character.MAX_VALUE, true).values()) {
+            if (++expansions > MAX_EXPANSIONS) {
+                break;
+            }
+            scores = scores.union(postings, 1f);
+        }
+        return scores;
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null) {
+            return List.of();
+        }
+        List<String> tokens = new ArrayList<>();
+        StringBuilder token = new StringBuilder();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                token.append(Character.toLowerCase(c));
+            } else if (token.length() > 0) {
+                tokens.add(token.toString());
+                token.setLength(0);
+            }
+        }
+        if (token.length() > 0) {
+            tokens.add(token.toString());
+        }
+        return tokens;
+    }
+
+    private void put(Integer id, String name, String description) {
+        Map<String, Integer> weights = new HashMap<>();
+        for (String token : tokenize(name)) {
+            weights.merge(token, NAME_WEIGHT, Integer::sum);
+        }
+        for (String token : tokenize(description)) {
+            weights.merge(token, DESCRIPTION_WEIGHT, Integer::sum);
+        }
+        weights.forEach((term, weight) -> terms.computeIfAbsent(term, t -> new Postings()).put(id, weight));
+        documentTerms.put(id, weights.keySet().toArray(new String[0]));
+    }
+
+    private void remove(Integer id) {
+        String[] previous = documentTerms.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String term : previous) {
+            Postings postings = terms.get(term);
+            if (postings != null && postings.remove(id) && postings.size == 0) {
+                terms.remove(term);
+            }
+        }
+    }
+
+    /**
+     * id 순으로 정렬된 (id, 점수) 목록. 박싱 없이 정렬된 배열끼리 합치고 교차한다.
+     */
+    private static final class Scores {
+        private final int[] ids;
+        private final float[] values;
+        private int size;
+
+        Scores(int capacity) {
+            ids = new int[capacity];
+            values = new float[capacity];
+        }
+
+        Scores union(Postings postings, float boost) {
+            Scores merged = new Scores(size + postings.size);
+            int i = 0;
+            int j = 0;
+            while (i < size || j < postings.size) {
+                if (j == postings.size || (i < size && ids[i] < postings.ids[j])) {
+                    merged.add(ids[i], values[i++]);
+                } else if (i == size || postings.ids[j] < ids[i]) {
+                    merged.add(postings.ids[j], postings.weights[j++] * boost);
+                } else {
+                    merged.add(ids[i], values[i++] + postings.weights[j++] * boost);
+                }
+            }
+            return merged;
+        }
+
+        Scores intersect(Scores other) {
+            Scores common = new Scores(Math.min(size, other.size));
+            int i = 0;
+            int j = 0;
+            while (i < size && j < other.size) {
+                if (ids[i] < other.ids[j]) {
+                    i++;
+                } else if (other.ids[j] < ids[i]) {
+                    j++;
+                } else {
+                    common.add(ids[i], values[i++] + other.values[j++]);
+                }
+            }
+            return common;
+        }
+
+        /**
+         * 점수가 높은 순, 같으면 id 가 큰 순으로 최대 limit 개
+         */
+        List<Integer> top(int limit) {
+            Comparator<Integer> ranking = Comparator.<Integer>comparingDouble(i -> values[i])
+                    .thenComparingInt(i -> ids[i]);
+            PriorityQueue<Integer> heap = new PriorityQueue<>(limit + 1, ranking);
+            for (int i = 0; i < size; i++) {
+                if (heap.size() == limit && !ranksAbove(i, heap.peek())) {
+                    continue;
+                }
+                heap.offer(i);
+                if (heap.size() > limit) {
+                    heap.poll();
+                }
+            }
+            Integer[] top = new Integer[heap.size()];
+            for (int i = top.length - 1; i >= 0; i--) {
+                top[i] = ids[heap.poll()];
+            }
+            return Arrays.asList(top);
+        }
+
+        private boolean ranksAbove(int i, int j) {
+            return values[i] > values[j] || (values[i] == values[j] && ids[i] > ids[j]);
+        }
+
+        private void add(int id, float value) {
+            ids[size] = id;
+            values[size] = value;
+            size++;
+        }
+    }
+
+    /**
+     * id 순으로 정렬된 (id, 가중치) 목록
+     */
+    private static final class Postings {
+        private int[] ids = new int[4];
+        private int[] weights = new int[4];
+        private int size;
+
+        void put(int id, int weight) {
+            int i = Arrays.binarySearch(ids, 0, size, id);
+            if (i >= 0) {
+                weights[i] = weight;
+                return;
+            }
+            i = -i - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            System.arraycopy(ids, i, ids, i + 1, size - i);
+            System.arraycopy(weights, i, weights, i + 1, size - i);
+            ids[i] = id;
+            weights[i] = weight;
+            size++;
+        }
+
+        boolean remove(int id) {
+            int i = Arrays.binarySearch(ids, 0, size, id);
+            if (i < 0) {
+                return false;
+            }
+            System.arraycopy(ids, i + 1, ids, i, size - i - 1);
+            System.arraycopy(weights, i + 1, weights, i, size - i - 1);
+            size--;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.restapidemo.events;
+
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * EventSearch 조건을 Specification 으로 조합한다. 조건 순서는 Event 의 복합 인덱스 선두 컬럼 순서를 따른다.
+ */
+public final class EventSpecifications {
+
+    private EventSpecifications() {
+    }
+
+    public static Specification<Event> of(EventSearch search) {
+        return Specification.where(equal("eventStatus", search.getEventStatus()))
+                .and(equal("free", search.getFree()))
+                .and(equal("offline", search.getOffline()))
+                .and(between("basePrice", search.getBasePriceFrom(), search.getBasePriceTo()))
+                .and(between("beginEnrollmentDateTime", search.getEnrollmentFrom(), search.getEnrollmentTo()))
+                .and(between("beginEventDateTime", search.getEventFrom(), search.getEventTo()));
+    }
+
+    private static Specification<Event> equal(String property, Object value) {
+        if (value == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get(property), value);
+    }
+
+    private static <T extends Comparable<? super T>> Specification<Event> between(String property, T from, T to) {
+        if (from == null && to == null) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            if (from == null) {
+                return cb.lessThanOrEqualTo(root.<T>get(property), to);
+            }
+            if (to == null) {
+                return cb.greaterThanOrEqualTo(root.<T>get(property), from);
+            }
+            return cb.between(root.<T>get(property), from, to);
+        };
+    }
+}
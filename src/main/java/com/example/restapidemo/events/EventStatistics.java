@@ -0,0 +1,153 @@
+package com.example.restapidemo.events;
+
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * 이벤트 통계의 인메모리 집계. 시작 시 DB 를 한 번 훑어 만들고, 이후에는 이벤트가 저장될 때마다 바뀌기 전과 후의 차이만 반영한다.
+ * 카운터는 쓰기 경합이 적은 LongAdder 이고 가격 분포는 고정 구간 히스토그램이라, 조회 비용이 이벤트 수와 무관하다.
+ * 카운터를 하나씩 읽으므로 동시에 저장 중인 이벤트가 일부 카운터에만 반영되어 보일 수 있다.
+ * 집계가 프로세스 안에 있으므로 인스턴스가 하나일 때를 전제로 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class EventStatistics {
+
+    /**
+     * 가격 구간의 상한(포함). 첫 구간은 무료(0 이하)이고, 마지막 상한을 넘는 가격은 상한 없는 구간에 들어간다.
+     */
+    static final int[] PRICE_BUCKET_BOUNDS = {0, 10_000, 30_000, 50_000, 100_000, 300_000};
+
+    private final EventRepository eventRepository;
+
+    private volatile Aggregates aggregates = new Aggregates();
+
+    /**
+     * DB 에서 다시 집계해 통째로 바꾼다. 그 전에 반영된 차이는 다시 읽은 값에 이미 들어 있으므로 버린다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        Aggregates loaded = new Aggregates();
+        try (Stream<Object[]> rows = eventRepository.streamStatistics()) {
+            rows.forEach(row -> loaded.apply(new Sample(
+                    (EventStatus) row[0], (Boolean) row[1], (Boolean) row[2], (Integer) row[3], (Integer) row[4]), 1));
+        }
+        aggregates = loaded;
+    }
+
+    public void add(Event event) {
+        aggregates.apply(Sample.of(event), 1);
+    }
+
+    /**
+     * 수정 전에 떠 둔 상태와 저장된 이벤트의 차이를 반영한다.
+     */
+    public void replace(Sample before, Event after) {
+        Sample sample = Sample.of(after);
+        if (before.equals(sample)) {
+            return;
+        }
+        Aggregates current = aggregates;
+        current.apply(before, -1);
+        current.apply(sample, 1);
+    }
+
+    public void changeStatus(EventStatus from, EventStatus to) {
+        if (from == to) {
+            return;
+        }
+        Aggregates current = aggregates;
+        current.byStatus[from.ordinal()].decrement();
+        current.byStatus[to.ordinal()].increment();
+    }
+
+    public EventStats snapshot() {
+        Aggregates current = aggregates;
+        Map<EventStatus, Long> byStatus = new EnumMap<>(EventStatus.class);
+        for (EventStatus status : EventStatus.values()) {
+            byStatus.put(status, current.byStatus[status.ordinal()].sum());
+        }
+        return new EventStats(byStatus,
+                current.free.sum(), current.paid.sum(), current.offline.sum(), current.online.sum(),
+                buckets(current.basePrice), buckets(current.maxPrice));
+    }
+
+    static int bucketOf(int price) {
+        int index = Arrays.binarySearch(PRICE_BUCKET_BOUNDS, price);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private static List<EventStats.PriceBucket> buckets(LongAdder[] counts) {
+        List<EventStats.PriceBucket> buckets = new ArrayList<>(counts.length);
+        for (int i = 0; i < counts.length; i++) {
+            int min = i == 0 ? 0 : PRICE_BUCKET_BOUNDS[i - 1] + 1;
+            Integer max = i < PRICE_BUCKET_BOUNDS.length ? PRICE_BUCKET_BOUNDS[i] : null;
+            buckets.add(new EventStats.PriceBucket(min, max, counts[i].sum()));
+        }
+        return buckets;
+    }
+
+    /**
+     * 집계에 쓰이는 이벤트 필드만 떼어 둔 값. 엔티티는 저장하면서 바뀌므로 수정 전에 떠 둔다.
+     */
+    @EqualsAndHashCode
+    public static final class Sample {
+        private final EventStatus status;
+        private final boolean free;
+        private final boolean offline;
+        private final int basePrice;
+        private final int maxPrice;
+
+        private Sample(EventStatus status, boolean free, boolean offline, int basePrice, int maxPrice) {
+            // 상태 없이 저장된 이벤트는 엔티티 기본값과 같이 DRAFT 로 센다.
+            this.status = status == null ? EventStatus.DRAFT : status;
+            this.free = free;
+            this.offline = offline;
+            this.basePrice = basePrice;
+            this.maxPrice = maxPrice;
+        }
+
+        public static Sample of(Event event) {
+            return new Sample(event.getEventStatus(), event.isFree(), event.isOffline(), event.getBasePrice(), event.getMaxPrice());
+        }
+    }
+
+    private static final class Aggregates {
+        private final LongAdder[] byStatus = adders(EventStatus.values().length);
+        private final LongAdder free = new LongAdder();
+        private final LongAdder paid = new LongAdder();
+        private final LongAdder offline = new LongAdder();
+        private final LongAdder online = new LongAdder();
+        private final LongAdder[] basePrice = adders(PRICE_BUCKET_BOUNDS.length + 1);
+        private final LongAdder[] maxPrice = adders(PRICE_BUCKET_BOUNDS.length + 1);
+
+        void apply(Sample sample, int delta) {
+            byStatus[sample.status.ordinal()].add(delta);
+            (sample.free ? free : paid).add(delta);
+            (sample.offline ? offline : online).add(delta);
+            basePrice[bucketOf(sample.basePrice)].add(delta);
+            maxPrice[bucketOf(sample.maxPrice)].add(delta);
+        }
+
+        private static LongAdder[] adders(int size) {
+            LongAdder[] adders = new LongAdder[size];
+            for (int i = 0; i < size; i++) {
+                adders[i] = new LongAdder();
+            }
+            return adders;
+        }
+    }
+}
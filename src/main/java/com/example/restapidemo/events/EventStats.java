@@ -0,0 +1,50 @@
+package com.example.restapidemo.events;
+
+import lombok.Getter;
+import org.springframework.hateoas.RepresentationModel;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 이벤트 집계. 상태별, 무료/유료, 오프라인/온라인 개수와 basePrice/maxPrice 의 고정 구간 분포를 담는다.
+ */
+@Getter
+public class EventStats extends RepresentationModel<EventStats> {
+    private final long total;
+    private final Map<EventStatus, Long> byStatus;
+    private final long free;
+    private final long paid;
+    private final long offline;
+    private final long online;
+    private final List<PriceBucket> basePrice;
+    private final List<PriceBucket> maxPrice;
+
+    public EventStats(Map<EventStatus, Long> byStatus, long free, long paid, long offline, long online,
+                      List<PriceBucket> basePrice, List<PriceBucket> maxPrice) {
+        this.total = byStatus.values().stream().mapToLong(Long::longValue).sum();
+        this.byStatus = byStatus;
+        this.free = free;
+        this.paid = paid;
+        this.offline = offline;
+        this.online = online;
+        this.basePrice = basePrice;
+        this.maxPrice = maxPrice;
+    }
+
+    /**
+     * min 이상 max 이하 가격의 이벤트 개수. 마지막 구간은 max 가 없다.
+     */
+    @Getter
+    public static class PriceBucket {
+        private final int min;
+        private final Integer max;
+        private final long count;
+
+        public PriceBucket(int min, Integer max, long count) {
+            this.min = min;
+            this.max = max;
+            this.count = count;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 package com.example.restapidemo.events;
 
 public enum EventStatus {
-    DRAFT, PUBLISHED, BEGAN_ENROLLMENT;
+    DRAFT, PUBLISHED, BEGAN_ENROLLMENT, CLOSED_ENROLLMENT;
 }
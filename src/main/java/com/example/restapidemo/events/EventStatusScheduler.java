@@ -0,0 +1,186 @@
+package com.example.restapidemo.events;
+
+import com.example.restapidemo.common.HashedTimerWheel;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 이벤트 상태 자동 전이. PUBLISHED 이벤트는 beginEnrollmentDateTime 에 BEGAN_ENROLLMENT 로,
+ * PUBLISHED/BEGAN_ENROLLMENT 이벤트는 closeEnrollmentDateTime 에 CLOSED_ENROLLMENT 로 바꾼다.
+ * 테이블을 주기적으로 훑는 대신 시작 시 대상 이벤트를 타이머 휠에 걸어 두고, 같은 틱에 만료된 전이는 모아서 일괄 UPDATE 한다.
+ * 일시가 바뀌면 다시 걸기만 하고 이전 항목은 지우지 않는다. UPDATE 가 현재 상태와 일시를 다시 확인하므로 낡은 항목은 아무것도 바꾸지 않는다.
+ */
+@Slf4j
+@Component
+public class EventStatusScheduler implements DisposableBean {
+
+    private static final int MAX_IDS_PER_UPDATE = 1000;
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(10);
+
+    private final EventRepository eventRepository;
+    private final EnrollmentSeats enrollmentSeats;
+    private final EventResponseCache eventResponseCache;
+    private final EventStatistics eventStatistics;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock = Clock.systemDefaultZone();
+    private final HashedTimerWheel<Transition> wheel;
+    private final ScheduledExecutorService ticker;
+
+    public EventStatusScheduler(EventRepository eventRepository,
+                                EnrollmentSeats enrollmentSeats,
+                                EventResponseCache eventResponseCache,
+                                EventStatistics eventStatistics,
+                                MeterRegistry meterRegistry,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${app.event-status.tick:1s}") Duration tick,
+                                @Value("${app.event-status.wheel-size:512}") int wheelSize) {
+        this.eventRepository = eventRepository;
+        this.enrollmentSeats = enrollmentSeats;
+        this.eventResponseCache = eventResponseCache;
+        this.eventStatistics = eventStatistics;
+        this.meterRegistry = meterRegistry;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.wheel = new HashedTimerWheel<>(tick, wheelSize, clock.millis(), this::apply);
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "event-status-wheel");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = tick.toMillis();
+        ticker.scheduleAtFixedRate(() -> wheel.advanceTo(clock.millis()), interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        Set<EventStatus> statuses = EnumSet.of(EventStatus.PUBLISHED, EventStatus.BEGAN_ENROLLMENT);
+        try (Stream<Object[]> rows = eventRepository.streamEnrollmentSchedules(statuses)) {
+            rows.forEach(row -> schedule((Integer) row[0], (EventStatus) row[1], (LocalDateTime) row[2], (LocalDateTime) row[3]));
+        }
+    }
+
+    public void schedule(Event event) {
+        schedule(event.getId(), event.getEventStatus(), event.getBeginEnrollmentDateTime(), event.getCloseEnrollmentDateTime());
+    }
+
+    private void schedule(Integer id, EventStatus status, LocalDateTime begin, LocalDateTime close) {
+        for (Transition.Kind kind : Transition.Kind.values()) {
+            LocalDateTime at = kind == Transition.Kind.BEGIN ? begin : close;
+            if (at != null && kind.from.contains(status)) {
+                wheel.schedule(new Transition(id, kind), at.atZone(clock.getZone()).toInstant().toEpochMilli());
+            }
+        }
+    }
+
+    /**
+     * 같은 틱에 만료된 전이를 종류별로 모아 UPDATE 한다. BEGIN 을 먼저 처리해 두 일시가 같은 틱에 걸려도 마지막 상태가 맞게 한다.
+     */
+    private void apply(List<Transition> due) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        for (Transition.Kind kind : Transition.Kind.values()) {
+            Set<Integer> ids = new LinkedHashSet<>();
+            for (Transition transition : due) {
+                if (transition.kind == kind) {
+                    ids.add(transition.eventId);
+                }
+            }
+            List<Integer> idList = new ArrayList<>(ids);
+            for (int from = 0; from < idList.size(); from += MAX_IDS_PER_UPDATE) {
+                apply(kind, idList.subList(from, Math.min(from + MAX_IDS_PER_UPDATE, idList.size())), now);
+            }
+        }
+    }
+
+    private void apply(Transition.Kind kind, List<Integer> ids, LocalDateTime now) {
+        try {
+            Map<Integer, EventStatus> changed = transactionTemplate.execute(status -> {
+                // 통계에서 뺄 상태를 알아야 하므로 바꾸기 전 상태를 먼저 읽어 둔다.
+                Map<Integer, EventStatus> previous = new HashMap<>();
+                for (Object[] row : eventRepository.findStatusesByIds(ids)) {
+                    if (kind.from.contains(row[1])) {
+                        previous.put((Integer) row[0], (EventStatus) row[1]);
+                    }
+                }
+                if (previous.isEmpty()) {
+                    return Map.of();
+                }
+                int updated = kind == Transition.Kind.BEGIN
+                        ? eventRepository.beginEnrollment(previous.keySet(), kind.from, kind.to, now)
+                        : eventRepository.closeEnrollment(previous.keySet(), kind.from, kind.to, now);
+                if (updated == 0) {
+                    return Map.of();
+                }
+                Map<Integer, EventStatus> transitioned = new HashMap<>();
+                for (Integer id : eventRepository.findIdsByEventStatus(previous.keySet(), kind.to)) {
+                    transitioned.put(id, previous.get(id));
+                }
+                return transitioned;
+            });
+            changed.forEach((id, from) -> {
+                eventResponseCache.invalidate(id);
+                enrollmentSeats.refresh(id, kind.to);
+                eventStatistics.changeStatus(from, kind.to);
+            });
+            meterRegistry.counter("event.status.transitions", "to", kind.to.name().toLowerCase(Locale.ROOT))
+                    .increment(changed.size());
+        } catch (RuntimeException e) {
+            // 휠 스레드가 예외로 멈추지 않도록 여기서 처리하고 잠시 뒤 다시 시도한다.
+            log.error("Failed to apply {} transition for {} events, retrying in {}", kind, ids.size(), RETRY_DELAY, e);
+            long retryAt = clock.millis() + RETRY_DELAY.toMillis();
+            ids.forEach(id -> wheel.schedule(new Transition(id, kind), retryAt));
+        }
+    }
+
+    @Override
+    public void destroy() {
+        ticker.shutdown();
+    }
+
+    static final class Transition {
+        private final Integer eventId;
+        private final Kind kind;
+
+        Transition(Integer eventId, Kind kind) {
+            this.eventId = eventId;
+            this.kind = kind;
+        }
+
+        enum Kind {
+            BEGIN(EnumSet.of(EventStatus.PUBLISHED), EventStatus.BEGAN_ENROLLMENT),
+            CLOSE(EnumSet.of(EventStatus.PUBLISHED, EventStatus.BEGAN_ENROLLMENT), EventStatus.CLOSED_ENROLLMENT);
+
+            private final Set<EventStatus> from;
+            private final EventStatus to;
+
+            Kind(Set<EventStatus> from, EventStatus to) {
+                this.from = from;
+                this.to = to;
+            }
+        }
+    }
+}
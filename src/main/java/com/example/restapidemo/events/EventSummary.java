@@ -0,0 +1,40 @@
+package com.example.restapidemo.events;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.hateoas.server.core.Relation;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 이벤트 목록 조회용 projection. 목록 응답에 필요한 컬럼만 읽고 매니저는 외래키(id)만 가져온다.
+ * 매니저는 단건 응답(Event)과 같은 {"id": ...} 모양으로 직렬화한다.
+ */
+@Getter @AllArgsConstructor
+@Relation(collectionRelation = "eventList")
+public class EventSummary {
+    private Integer id;
+    private String name;
+    private String description;
+    private LocalDateTime beginEnrollmentDateTime;
+    private LocalDateTime closeEnrollmentDateTime;
+    private LocalDateTime beginEventDateTime;
+    private LocalDateTime endEventDateTime;
+    private String location;
+    private int basePrice;
+    private int maxPrice;
+    private int limitOfEnrollment;
+    private boolean offline;
+    private boolean free;
+    private EventStatus eventStatus;
+    @JsonIgnore
+    private Integer managerId;
+
+    @JsonProperty("manager")
+    public Map<String, Integer> getManager() {
+        return managerId == null ? null : Map.of("id", managerId);
+    }
+}
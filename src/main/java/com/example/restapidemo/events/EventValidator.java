@@ -5,40 +5,147 @@ import org.springframework.validation.Errors;
 import org.springframework.validation.Validator;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 
+/**
+ * EventDto 검증기. 필수 값, 최솟값, 가격 규칙, 일시 규칙을 필드마다 한 번씩만 읽으며 한 번에 검사한다.
+ * 상태가 없으므로 생성, 일괄 생성, 수정, 부분 수정이 같은 인스턴스를 쓰고, 통과하는 경우에는 객체를 만들지 않는다.
+ * 필드 오류의 코드와 기본 메시지는 EventDto 의 Bean Validation 애노테이션과 같다.
+ */
 @Component
 public class EventValidator implements Validator {
 
+    private static final int NAME = 1;
+    private static final int DESCRIPTION = 1 << 1;
+    private static final int BEGIN_ENROLLMENT_DATE_TIME = 1 << 2;
+    private static final int CLOSE_ENROLLMENT_DATE_TIME = 1 << 3;
+    private static final int BEGIN_EVENT_DATE_TIME = 1 << 4;
+    private static final int END_EVENT_DATE_TIME = 1 << 5;
+    private static final int BASE_PRICE = 1 << 6;
+    private static final int MAX_PRICE = 1 << 7;
+    private static final int LIMIT_OF_ENROLLMENT = 1 << 8;
+
+    private static final int PRICES = BASE_PRICE | MAX_PRICE;
+    private static final int DATES = BEGIN_ENROLLMENT_DATE_TIME | CLOSE_ENROLLMENT_DATE_TIME
+            | BEGIN_EVENT_DATE_TIME | END_EVENT_DATE_TIME;
+    private static final int ALL = NAME | DESCRIPTION | DATES | PRICES | LIMIT_OF_ENROLLMENT;
+
+    private static final String NOT_EMPTY = "NotEmpty";
+    private static final String NOT_NULL = "NotNull";
+    private static final String MIN = "Min";
+    private static final String NOT_EMPTY_MESSAGE = "must not be empty";
+    private static final String NOT_NULL_MESSAGE = "must not be null";
+    private static final String MIN_MESSAGE = "must be greater than or equal to 0";
+
     @Override
     public boolean supports(Class<?> aClass) {
-        return aClass.isAssignableFrom(EventDto.class);
+        return EventDto.class.isAssignableFrom(aClass);
     }
 
     @Override
     public void validate(Object object, Errors errors) {
-        EventDto eventDto = (EventDto) object;
-        if (eventDto.getBasePrice() > eventDto.getMaxPrice() && eventDto.getMaxPrice() != 0) {
-            errors.rejectValue(
-                    "basePrice",
-                    "invalid.basePrice",
-                    new Object[]{eventDto.getBasePrice()},
-                    "base price is wrong");
-            errors.rejectValue(
-                    "maxPrice",
-                    "invalid.maxPrice",
-                    new Object[]{eventDto.getBasePrice()},
-                    "max price is wrong");
+        validate((EventDto) object, errors, ALL);
+    }
+
+    /**
+     * 바뀐 필드와 그 필드가 관여하는 규칙만 검사한다. 규칙에 필요한 나머지 필드는 eventDto 의 현재 값을 사용한다.
+     */
+    public void validate(EventDto eventDto, Errors errors, Collection<String> changedFields) {
+        int fields = 0;
+        for (String field : changedFields) {
+            fields |= fieldOf(field);
+        }
+        validate(eventDto, errors, fields);
+    }
+
+    private void validate(EventDto eventDto, Errors errors, int fields) {
+        int invalid = 0;
+        if ((fields & NAME) != 0 && isEmpty(eventDto.getName())) {
+            invalid |= reject(errors, NAME, "name", NOT_EMPTY, NOT_EMPTY_MESSAGE);
+        }
+        if ((fields & DESCRIPTION) != 0 && isEmpty(eventDto.getDescription())) {
+            invalid |= reject(errors, DESCRIPTION, "description", NOT_EMPTY, NOT_EMPTY_MESSAGE);
         }
 
+        LocalDateTime beginEnrollmentDateTime = eventDto.getBeginEnrollmentDateTime();
+        LocalDateTime closeEnrollmentDateTime = eventDto.getCloseEnrollmentDateTime();
+        LocalDateTime beginEventDateTime = eventDto.getBeginEventDateTime();
         LocalDateTime endEventDateTime = eventDto.getEndEventDateTime();
-        if (endEventDateTime.isBefore(eventDto.getBeginEventDateTime()) ||
-                endEventDateTime.isBefore(eventDto.getCloseEnrollmentDateTime()) ||
-                endEventDateTime.isBefore(eventDto.getBeginEnrollmentDateTime())) {
-            errors.rejectValue(
-                    "endEventDateTime",
-                    "invalid.endEventDateTime",
-                    new Object[]{eventDto.getEndEventDateTime()},
-                    "endEventDateTime is wrong");
+        if ((fields & BEGIN_ENROLLMENT_DATE_TIME) != 0 && beginEnrollmentDateTime == null) {
+            invalid |= reject(errors, BEGIN_ENROLLMENT_DATE_TIME, "beginEnrollmentDateTime", NOT_NULL, NOT_NULL_MESSAGE);
+        }
+        if ((fields & CLOSE_ENROLLMENT_DATE_TIME) != 0 && closeEnrollmentDateTime == null) {
+            invalid |= reject(errors, CLOSE_ENROLLMENT_DATE_TIME, "closeEnrollmentDateTime", NOT_NULL, NOT_NULL_MESSAGE);
+        }
+        if ((fields & BEGIN_EVENT_DATE_TIME) != 0 && beginEventDateTime == null) {
+            invalid |= reject(errors, BEGIN_EVENT_DATE_TIME, "beginEventDateTime", NOT_NULL, NOT_NULL_MESSAGE);
+        }
+        if ((fields & END_EVENT_DATE_TIME) != 0 && endEventDateTime == null) {
+            invalid |= reject(errors, END_EVENT_DATE_TIME, "endEventDateTime", NOT_NULL, NOT_NULL_MESSAGE);
+        }
+
+        int basePrice = eventDto.getBasePrice();
+        int maxPrice = eventDto.getMaxPrice();
+        if ((fields & BASE_PRICE) != 0 && basePrice < 0) {
+            invalid |= reject(errors, BASE_PRICE, "basePrice", MIN, MIN_MESSAGE);
+        }
+        if ((fields & MAX_PRICE) != 0 && maxPrice < 0) {
+            invalid |= reject(errors, MAX_PRICE, "maxPrice", MIN, MIN_MESSAGE);
+        }
+        if ((fields & LIMIT_OF_ENROLLMENT) != 0 && eventDto.getLimitOfEnrollment() < 0) {
+            reject(errors, LIMIT_OF_ENROLLMENT, "limitOfEnrollment", MIN, MIN_MESSAGE);
+        }
+
+        // 규칙은 관여하는 필드가 검사 대상이고 그 필드들에 이미 오류가 없을 때만 검사한다.
+        if ((fields & PRICES) != 0 && (invalid & PRICES) == 0
+                && basePrice > maxPrice && maxPrice != 0) {
+            errors.rejectValue("basePrice", "invalid.basePrice", "base price is wrong");
+            errors.rejectValue("maxPrice", "invalid.maxPrice", "max price is wrong");
+        }
+        if ((fields & DATES) != 0 && (invalid & DATES) == 0 && endEventDateTime != null
+                && (isBefore(endEventDateTime, beginEventDateTime)
+                || isBefore(endEventDateTime, closeEnrollmentDateTime)
+                || isBefore(endEventDateTime, beginEnrollmentDateTime))) {
+            errors.rejectValue("endEventDateTime", "invalid.endEventDateTime", "endEventDateTime is wrong");
+        }
+    }
+
+    private static int reject(Errors errors, int field, String fieldName, String code, String defaultMessage) {
+        errors.rejectValue(fieldName, code, defaultMessage);
+        return field;
+    }
+
+    private static boolean isEmpty(String value) {
+        return value == null || value.isEmpty();
+    }
+
+    // 부분 수정에서는 기존 이벤트의 값이 비어 있을 수 있으므로 null 은 비교하지 않는다.
+    private static boolean isBefore(LocalDateTime dateTime, LocalDateTime other) {
+        return other != null && dateTime.isBefore(other);
+    }
+
+    private static int fieldOf(String field) {
+        switch (field) {
+            case "name":
+                return NAME;
+            case "description":
+                return DESCRIPTION;
+            case "beginEnrollmentDateTime":
+                return BEGIN_ENROLLMENT_DATE_TIME;
+            case "closeEnrollmentDateTime":
+                return CLOSE_ENROLLMENT_DATE_TIME;
+            case "beginEventDateTime":
+                return BEGIN_EVENT_DATE_TIME;
+            case "endEventDateTime":
+                return END_EVENT_DATE_TIME;
+            case "basePrice":
+                return BASE_PRICE;
+            case "maxPrice":
+                return MAX_PRICE;
+            case "limitOfEnrollment":
+                return LIMIT_OF_ENROLLMENT;
+            default:
+                return 0;
         }
     }
 }
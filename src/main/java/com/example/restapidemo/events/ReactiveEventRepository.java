@@ -0,0 +1,104 @@
+package com.example.restapidemo.events;
+
+import com.example.restapidemo.accounts.Account;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.Statement;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+/**
+ * R2DBC 로 event 테이블을 읽는 읽기 전용 저장소. JPA 와 같은 테이블을 영속성 컨텍스트 없이 읽어
+ * 단건은 Event, 목록은 MVC 목록과 같은 EventSummary 로 옮긴다.
+ * 행은 구독자의 요청량만큼 드라이버에서 가져온다.
+ */
+public class ReactiveEventRepository {
+
+    private static final String COLUMNS = "id, name, description, begin_enrollment_date_time, close_enrollment_date_time, " +
+            "begin_event_date_time, end_event_date_time, location, base_price, max_price, limit_of_enrollment, " +
+            "offline, free, event_status, manager_id";
+
+    private final ConnectionFactory connectionFactory;
+
+    public ReactiveEventRepository(ConnectionFactory connectionFactory) {
+        this.connectionFactory = connectionFactory;
+    }
+
+    public Mono<Event> findById(Integer id) {
+        return query(ReactiveEventRepository::toEvent, "select " + COLUMNS + " from event where id = $1", id).next();
+    }
+
+    public Flux<EventSummary> findAll(long offset, int limit) {
+        return query(ReactiveEventRepository::toSummary,
+                "select " + COLUMNS + " from event order by id limit $1 offset $2", limit, offset);
+    }
+
+    public Mono<Long> count() {
+        return query(row -> row.get(0, Long.class), "select count(*) from event").next();
+    }
+
+    private <T> Flux<T> query(Function<Row, T> mapper, String sql, Object... parameters) {
+        return Flux.usingWhen(connectionFactory.create(),
+                connection -> execute(connection, mapper, sql, parameters),
+                Connection::close);
+    }
+
+    private <T> Flux<T> execute(Connection connection, Function<Row, T> mapper, String sql, Object... parameters) {
+        Statement statement = connection.createStatement(sql);
+        for (int i = 0; i < parameters.length; i++) {
+            statement.bind(i, parameters[i]);
+        }
+        return Flux.from(statement.execute())
+                .flatMap(result -> result.map((row, metadata) -> mapper.apply(row)));
+    }
+
+    private static EventSummary toSummary(Row row) {
+        String eventStatus = row.get(13, String.class);
+        return new EventSummary(
+                row.get(0, Integer.class),
+                row.get(1, String.class),
+                row.get(2, String.class),
+                row.get(3, LocalDateTime.class),
+                row.get(4, LocalDateTime.class),
+                row.get(5, LocalDateTime.class),
+                row.get(6, LocalDateTime.class),
+                row.get(7, String.class),
+                intValue(row.get(8, Integer.class)),
+                intValue(row.get(9, Integer.class)),
+                intValue(row.get(10, Integer.class)),
+                Boolean.TRUE.equals(row.get(11, Boolean.class)),
+                Boolean.TRUE.equals(row.get(12, Boolean.class)),
+                eventStatus == null ? null : EventStatus.valueOf(eventStatus),
+                row.get(14, Integer.class));
+    }
+
+    private static Event toEvent(Row row) {
+        String eventStatus = row.get(13, String.class);
+        Integer managerId = row.get(14, Integer.class);
+        return Event.builder()
+                .id(row.get(0, Integer.class))
+                .name(row.get(1, String.class))
+                .description(row.get(2, String.class))
+                .beginEnrollmentDateTime(row.get(3, LocalDateTime.class))
+                .closeEnrollmentDateTime(row.get(4, LocalDateTime.class))
+                .beginEventDateTime(row.get(5, LocalDateTime.class))
+                .endEventDateTime(row.get(6, LocalDateTime.class))
+                .location(row.get(7, String.class))
+                .basePrice(intValue(row.get(8, Integer.class)))
+                .maxPrice(intValue(row.get(9, Integer.class)))
+                .limitOfEnrollment(intValue(row.get(10, Integer.class)))
+                .offline(Boolean.TRUE.equals(row.get(11, Boolean.class)))
+                .free(Boolean.TRUE.equals(row.get(12, Boolean.class)))
+                .eventStatus(eventStatus == null ? null : EventStatus.valueOf(eventStatus))
+                .manager(managerId == null ? null : Account.builder().id(managerId).build())
+                .build();
+    }
+
+    private static int intValue(Integer value) {
+        return value == null ? 0 : value;
+    }
+}
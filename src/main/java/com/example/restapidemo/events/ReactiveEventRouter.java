@@ -0,0 +1,191 @@
+package com.example.restapidemo.events;
+
+import com.example.restapidemo.common.ApiLinks;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.hateoas.server.LinkRelationProvider;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
+
+/**
+ * 읽기 전용 리액티브 이벤트 API. EventController 의 GET /api/events, GET /api/events/{id} 와 같은 HAL 모양으로 응답한다.
+ * 목록은 HAL 문서의 앞뒤 조각 사이에 이벤트를 하나씩 직렬화해 흘려보내므로 페이지 전체를 메모리에 모으지 않는다.
+ * 목록 항목(EventSummary), page 정보와 first/prev/self/next/last 링크는 PagedResourcesAssembler 가 만드는 문서와 같다.
+ */
+public class ReactiveEventRouter {
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 2000;
+
+    private final ReactiveEventRepository eventRepository;
+    private final ObjectMapper objectMapper;
+    private final byte[] listPrefix;
+
+    public ReactiveEventRouter(ReactiveEventRepository eventRepository,
+                               ObjectMapper halObjectMapper,
+                               LinkRelationProvider linkRelationProvider) {
+        this.eventRepository = eventRepository;
+        this.objectMapper = halObjectMapper;
+        String collectionRelation = linkRelationProvider.getCollectionResourceRelFor(EventSummary.class).value();
+        this.listPrefix = ("{\"_embedded\":{\"" + collectionRelation + "\":[").getBytes(StandardCharsets.UTF_8);
+    }
+
+    public RouterFunction<ServerResponse> routes() {
+        return RouterFunctions.route(GET(ApiLinks.EVENTS_PATH), this::queryEvents)
+                .andRoute(GET(ApiLinks.EVENTS_PATH + "/{id}"), this::getEvent);
+    }
+
+    Mono<ServerResponse> getEvent(ServerRequest request) {
+        Integer id;
+        try {
+            id = Integer.valueOf(request.pathVariable("id"));
+        } catch (NumberFormatException e) {
+            return ServerResponse.badRequest().build();
+        }
+        String baseUri = baseUri(request);
+        return eventRepository.findById(id)
+                .flatMap(event -> {
+                    EntityModel<Event> model = EntityModel.of(event, selfLink(event.getId(), baseUri));
+                    model.add(ApiLinks.profile("resources-events-get"));
+                    return ServerResponse.ok()
+                            .contentType(MediaTypes.HAL_JSON)
+                            .bodyValue(write(model));
+                })
+                .switchIfEmpty(ServerResponse.notFound().build());
+    }
+
+    Mono<ServerResponse> queryEvents(ServerRequest request) {
+        int page;
+        int size;
+        try {
+            page = request.queryParam("page").map(Integer::parseInt).orElse(0);
+            size = request.queryParam("size").map(Integer::parseInt).orElse(DEFAULT_PAGE_SIZE);
+        } catch (NumberFormatException e) {
+            return ServerResponse.badRequest().build();
+        }
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            return ServerResponse.badRequest().build();
+        }
+        String baseUri = baseUri(request);
+
+        // 첫 항목 앞에 목록 머리를 붙인다. 빈 페이지는 MVC 와 마찬가지로 _embedded 없이 링크와 page 정보만 보낸다.
+        AtomicBoolean hasContent = new AtomicBoolean();
+        Flux<byte[]> events = eventRepository.findAll((long) page * size, size)
+                .index()
+                .map(indexed -> {
+                    byte[] json = write(toModel(indexed.getT2(), baseUri));
+                    if (indexed.getT1() == 0) {
+                        hasContent.set(true);
+                        return concat(listPrefix, json);
+                    }
+                    return prepend(',', json);
+                });
+        Mono<byte[]> suffix = eventRepository.count()
+                .map(total -> listSuffix(hasContent.get(), baseUri, page, size, total));
+        return ServerResponse.ok()
+                .contentType(MediaTypes.HAL_JSON)
+                .body(events.concatWith(suffix), byte[].class);
+    }
+
+    private EntityModel<EventSummary> toModel(EventSummary event, String baseUri) {
+        return EntityModel.of(event, selfLink(event.getId(), baseUri));
+    }
+
+    private static Link selfLink(Integer id, String baseUri) {
+        return Link.of(baseUri + ApiLinks.EVENTS_PATH + "/" + id, IanaLinkRelations.SELF);
+    }
+
+    /**
+     * 목록 문서의 꼬리. 내용 없는 PagedModel {"_links":{...},"page":{...}} 을 직렬화해, 항목이 있었으면 여는 중괄호 대신 목록을 닫고 이어 붙인다.
+     */
+    private byte[] listSuffix(boolean hasContent, String baseUri, int page, int size, long total) {
+        PagedModel.PageMetadata metadata = new PagedModel.PageMetadata(size, page, total);
+        long totalPages = metadata.getTotalPages();
+        boolean hasPrevious = page > 0;
+        boolean hasNext = page + 1 < totalPages;
+
+        List<Link> links = new ArrayList<>();
+        if (hasPrevious || hasNext) {
+            links.add(pageLink(baseUri, 0, size, IanaLinkRelations.FIRST));
+        }
+        if (hasPrevious) {
+            links.add(pageLink(baseUri, page - 1, size, IanaLinkRelations.PREV));
+        }
+        links.add(pageLink(baseUri, page, size, IanaLinkRelations.SELF));
+        if (hasNext) {
+            links.add(pageLink(baseUri, page + 1, size, IanaLinkRelations.NEXT));
+        }
+        if (hasPrevious || hasNext) {
+            links.add(pageLink(baseUri, Math.max(totalPages - 1, 0), size, IanaLinkRelations.LAST));
+        }
+        links.add(ApiLinks.profile("resources-query-events"));
+
+        byte[] json = write(PagedModel.of(Collections.emptyList(), metadata, links));
+        if (!hasContent) {
+            return json;
+        }
+        byte[] suffix = new byte[json.length + 2];
+        suffix[0] = ']';
+        suffix[1] = '}';
+        suffix[2] = ',';
+        System.arraycopy(json, 1, suffix, 3, json.length - 1);
+        return suffix;
+    }
+
+    private static Link pageLink(String baseUri, long page, int size, LinkRelation relation) {
+        String href = UriComponentsBuilder.fromUriString(baseUri + ApiLinks.EVENTS_PATH)
+                .queryParam("page", page)
+                .queryParam("size", size)
+                .toUriString();
+        return Link.of(href, relation);
+    }
+
+    private byte[] write(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] concat(byte[] head, byte[] json) {
+        byte[] bytes = Arrays.copyOf(head, head.length + json.length);
+        System.arraycopy(json, 0, bytes, head.length, json.length);
+        return bytes;
+    }
+
+    private static byte[] prepend(char separator, byte[] json) {
+        byte[] bytes = new byte[json.length + 1];
+        bytes[0] = (byte) separator;
+        System.arraycopy(json, 0, bytes, 1, json.length);
+        return bytes;
+    }
+
+    private static String baseUri(ServerRequest request) {
+        return UriComponentsBuilder.fromUri(request.uri())
+                .replacePath(null)
+                .replaceQuery(null)
+                .build()
+                .toUriString();
+    }
+}
@@ -1,20 +1,17 @@
 package com.example.restapidemo.index;
 
-import com.example.restapidemo.events.EventController;
-import com.example.restapidemo.events.EventResource;
+import com.example.restapidemo.common.ApiLinks;
 import org.springframework.hateoas.RepresentationModel;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-
 @RestController
 public class IndexController {
 
-    @GetMapping("/api")
+    @GetMapping(ApiLinks.INDEX_PATH)
     public RepresentationModel index() {
         RepresentationModel index = new RepresentationModel();
-        index.add(linkTo(EventController.class).withRel("events"));
+        index.add(ApiLinks.eventsLink("events"));
         return index;
     }
 
@@ -5,6 +5,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.Set;
@@ -38,4 +39,81 @@ class AccountServiceTest {
 
     }
 
-}
\ No newline at end of file
+    @Test
+    void findByUserNameFromCache() {
+        Account account = accountRepository.save(Account.builder()
+                .email("cached@email.com")
+                .password("pass")
+                .roles(Set.of(AccountRole.USER))
+                .build());
+
+        long hitCount = accountService.cacheStats().hitCount();
+        UserDetails first = accountService.loadUserByUsername(account.getEmail());
+        UserDetails second = accountService.loadUserByUsername(account.getEmail());
+
+        assertEquals(hitCount + 1, accountService.cacheStats().hitCount());
+        assertNotSame(first, second);
+        assertEquals(first.getAuthorities(), second.getAuthorities());
+    }
+
+    @Test
+    void evictCacheWhenAccountChanged() {
+        Account account = accountRepository.save(Account.builder()
+                .email("changed@email.com")
+                .password("pass")
+                .roles(Set.of(AccountRole.USER))
+                .build());
+        accountService.loadUserByUsername(account.getEmail());
+
+        accountRepository.save(Account.builder()
+                .id(account.getId())
+                .email(account.getEmail())
+                .password("new pass")
+                .roles(Set.of(AccountRole.USER, AccountRole.ADMIN))
+                .build());
+
+        UserDetails userDetails = accountService.loadUserByUsername(account.getEmail());
+        assertEquals("new pass", userDetails.getPassword());
+        assertEquals(2, userDetails.getAuthorities().size());
+    }
+
+    @Test
+    void evictPreviousEmailWhenEmailChanged() {
+        Account account = accountRepository.save(Account.builder()
+                .email("before@email.com")
+                .password("pass")
+                .roles(Set.of(AccountRole.USER))
+                .build());
+        accountService.loadUserByUsername("before@email.com");
+
+        accountRepository.save(Account.builder()
+                .id(account.getId())
+                .email("after@email.com")
+                .password(account.getPassword())
+                .roles(Set.of(AccountRole.USER))
+                .build());
+
+        assertThrows(UsernameNotFoundException.class,
+                () -> accountService.loadUserByUsername("before@email.com"));
+        assertEquals("pass", accountService.loadUserByUsername("after@email.com").getPassword());
+    }
+
+    @Test
+    void findByUserNameNotFound() {
+        assertThrows(UsernameNotFoundException.class,
+                () -> accountService.loadUserByUsername("unknown@email.com"));
+    }
+
+
+    @Test
+    void rolesFromCachedUserDetails() {
+        Account account = accountRepository.save(Account.builder()
+                .email("roles@email.com")
+                .password("pass")
+                .roles(Set.of(AccountRole.USER, AccountRole.ADMIN))
+                .build());
+
+        assertEquals(Set.of(AccountRole.USER, AccountRole.ADMIN), accountService.roles(account.getEmail()));
+        assertEquals(Set.of(), accountService.roles("unknown@email.com"));
+    }
+}
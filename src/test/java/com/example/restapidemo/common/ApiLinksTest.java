@@ -0,0 +1,59 @@
+package com.example.restapidemo.common;
+
+import com.example.restapidemo.events.EventController;
+import com.example.restapidemo.index.IndexController;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+class ApiLinksTest {
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void sameAsLinkTo() {
+        bindRequest("http", "localhost", 80, "");
+        assertSameAsLinkTo();
+    }
+
+    @Test
+    void sameAsLinkToWithContextPath() {
+        bindRequest("https", "api.example.com", 8443, "/demo");
+        assertSameAsLinkTo();
+    }
+
+    private void assertSameAsLinkTo() {
+        assertSameLink(linkTo(EventController.class).withRel("query-events"), ApiLinks.eventsLink("query-events"));
+        assertSameLink(linkTo(EventController.class).slash(10).withSelfRel(), ApiLinks.eventLink(10, IanaLinkRelations.SELF));
+        assertSameLink(linkTo(EventController.class).slash(10).withRel("update-event"), ApiLinks.eventLink(10, "update-event"));
+        assertSameLink(linkTo(methodOn(IndexController.class).index()).withRel("index"), ApiLinks.indexLink("index"));
+    }
+
+    /**
+     * methodOn 으로 만든 링크는 affordance 를 달고 있어 Link.equals 로는 비교할 수 없으므로 응답에 나가는 href 와 rel 만 비교한다.
+     */
+    private void assertSameLink(Link expected, Link actual) {
+        assertEquals(expected.getHref(), actual.getHref());
+        assertEquals(expected.getRel(), actual.getRel());
+    }
+
+    private void bindRequest(String scheme, String host, int port, String contextPath) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", contextPath + "/api/events");
+        request.setScheme(scheme);
+        request.setServerName(host);
+        request.setServerPort(port);
+        request.setContextPath(contextPath);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.restapidemo.common;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HandlerExecutorTest {
+
+    @BeforeEach
+    void setUp() {
+        RequestContextHolder.setRequestAttributes(
+                new ServletRequestAttributes(new MockHttpServletRequest(), new MockHttpServletResponse()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void blockingModeRunsInline() {
+        HandlerExecutor handlerExecutor = new HandlerExecutor(false, 1, 0, Duration.ofSeconds(1));
+        Thread caller = Thread.currentThread();
+
+        Object result = handlerExecutor.execute(() -> ResponseEntity.ok(Thread.currentThread() == caller));
+
+        assertEquals(ResponseEntity.ok(true), result);
+    }
+
+    @Test
+    void asyncModeRejectsWhenSaturated() throws Exception {
+        HandlerExecutor handlerExecutor = new HandlerExecutor(true, 1, 0, Duration.ofSeconds(1));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            Object first = handlerExecutor.execute(() -> {
+                started.countDown();
+                await(release);
+                assertNotNull(RequestContextHolder.getRequestAttributes());
+                return ResponseEntity.ok().build();
+            });
+            assertTrue(first instanceof DeferredResult);
+            assertTrue(started.await(1, TimeUnit.SECONDS));
+
+            Object second = handlerExecutor.execute(() -> ResponseEntity.ok().build());
+
+            ResponseEntity<?> rejected = (ResponseEntity<?>) second;
+            assertEquals(HttpStatus.SERVICE_UNAVAILABLE, rejected.getStatusCode());
+            assertEquals("1", rejected.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+
+            release.countDown();
+            DeferredResult<?> deferredResult = (DeferredResult<?>) first;
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+            while (!deferredResult.hasResult() && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(ResponseEntity.ok().build(), deferredResult.getResult());
+        } finally {
+            release.countDown();
+            handlerExecutor.destroy();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
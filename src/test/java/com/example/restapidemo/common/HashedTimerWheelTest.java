@@ -0,0 +1,51 @@
+package com.example.restapidemo.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HashedTimerWheelTest {
+
+    @Test
+    void firesOnTheFirstTickAtOrAfterDeadline() {
+        List<List<String>> fired = new ArrayList<>();
+        HashedTimerWheel<String> wheel = new HashedTimerWheel<>(Duration.ofMillis(100), 8, 0, fired::add);
+        wheel.schedule("a", 250);
+        wheel.schedule("b", 300);
+
+        assertEquals(0, wheel.advanceTo(299));
+        assertEquals(2, wheel.advanceTo(300));
+        assertEquals(List.of(List.of("a", "b")), fired);
+    }
+
+    @Test
+    void firesAfterMoreThanOneRevolution() {
+        List<String> fired = new ArrayList<>();
+        HashedTimerWheel<String> wheel = new HashedTimerWheel<>(Duration.ofMillis(100), 4, 0, fired::addAll);
+        wheel.schedule("far", 1_000);
+        wheel.schedule("near", 100);
+
+        assertEquals(1, wheel.advanceTo(500));
+        assertEquals(List.of("near"), fired);
+        assertEquals(0, wheel.advanceTo(999));
+        assertEquals(1, wheel.advanceTo(1_000));
+        assertEquals(List.of("near", "far"), fired);
+    }
+
+    @Test
+    void pastDeadlinesFireOnTheNextTick() {
+        List<String> fired = new ArrayList<>();
+        HashedTimerWheel<String> wheel = new HashedTimerWheel<>(Duration.ofSeconds(1), 512, 10_000, fired::addAll);
+        wheel.advanceTo(20_000);
+        wheel.schedule("overdue", 0);
+
+        assertTrue(fired.isEmpty());
+        assertEquals(1, wheel.advanceTo(21_000));
+        assertEquals(List.of("overdue"), fired);
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.restapidemo.config;
+
+import com.example.restapidemo.common.BaseControllerTest;
+import com.example.restapidemo.common.BinaryMediaTypes;
+import com.example.restapidemo.events.Event;
+import com.example.restapidemo.events.EventDto;
+import com.example.restapidemo.events.EventRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+public class BinaryFormatConfigTest extends BaseControllerTest {
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    RequestMappingHandlerAdapter handlerAdapter;
+
+    @Test
+    void getEventAsCbor() throws Exception {
+        Event event = eventRepository.save(Event.builder()
+                .name("Spring")
+                .description("REST API Development with Spring")
+                .beginEnrollmentDateTime(LocalDateTime.of(2020, 10, 12, 11, 7))
+                .closeEnrollmentDateTime(LocalDateTime.of(2020, 10, 13, 11, 7))
+                .beginEventDateTime(LocalDateTime.of(2020, 10, 14, 11, 7))
+                .endEventDateTime(LocalDateTime.of(2020, 10, 15, 11, 7))
+                .limitOfEnrollment(100)
+                .build());
+
+        byte[] cbor = mockMvc.perform(get("/api/events/{id}", event.getId())
+                .accept(BinaryMediaTypes.CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(BinaryMediaTypes.CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+        String json = mockMvc.perform(get("/api/events/{id}", event.getId()))
+                .andExpect(content().contentTypeCompatibleWith(MediaTypes.HAL_JSON))
+                .andReturn().getResponse().getContentAsString();
+
+        JsonNode fromCbor = new ObjectMapper(new CBORFactory()).readTree(cbor);
+        assertEquals(objectMapper.readTree(json), fromCbor);
+        assertTrue(fromCbor.path("_links").path("self").has("href"));
+        assertTrue(fromCbor.path("_links").path("profile").has("href"));
+        assertFalse(fromCbor.has("links"));
+    }
+
+    @Test
+    void eTagPerRepresentation() throws Exception {
+        Event event = eventRepository.save(Event.builder()
+                .name("Spring")
+                .description("REST API Development with Spring")
+                .beginEnrollmentDateTime(LocalDateTime.of(2020, 10, 12, 11, 7))
+                .closeEnrollmentDateTime(LocalDateTime.of(2020, 10, 13, 11, 7))
+                .beginEventDateTime(LocalDateTime.of(2020, 10, 14, 11, 7))
+                .endEventDateTime(LocalDateTime.of(2020, 10, 15, 11, 7))
+                .limitOfEnrollment(100)
+                .build());
+
+        String jsonTag = mockMvc.perform(get("/api/events/{id}", event.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.VARY, Matchers.containsString(HttpHeaders.ACCEPT)))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String cborTag = mockMvc.perform(get("/api/events/{id}", event.getId())
+                .accept(BinaryMediaTypes.CBOR))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.VARY, Matchers.containsString(HttpHeaders.ACCEPT)))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(jsonTag, cborTag);
+
+        mockMvc.perform(get("/api/events/{id}", event.getId())
+                .accept(BinaryMediaTypes.CBOR)
+                .header(HttpHeaders.IF_NONE_MATCH, cborTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, cborTag));
+        mockMvc.perform(get("/api/events/{id}", event.getId())
+                .accept(BinaryMediaTypes.CBOR)
+                .header(HttpHeaders.IF_NONE_MATCH, jsonTag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void halConvertersReplaceDefaults() {
+        List<HttpMessageConverter<?>> converters = handlerAdapter.getMessageConverters();
+        assertEquals(1, converters.stream().filter(MappingJackson2CborHttpMessageConverter.class::isInstance).count());
+        assertEquals(1, converters.stream().filter(MappingJackson2SmileHttpMessageConverter.class::isInstance).count());
+    }
+
+    @Test
+    void errorsAsSmile() throws Exception {
+        EventDto eventDto = EventDto.builder()
+                .name("Spring")
+                .description("REST API Development with Spring")
+                .beginEnrollmentDateTime(LocalDateTime.of(2020, 10, 12, 11, 7))
+                .closeEnrollmentDateTime(LocalDateTime.of(2020, 9, 13, 11, 7))
+                .beginEventDateTime(LocalDateTime.of(2020, 9, 14, 11, 7))
+                .endEventDateTime(LocalDateTime.of(2020, 8, 15, 11, 7))
+                .basePrice(10000)
+                .maxPrice(200)
+                .limitOfEnrollment(100)
+                .build();
+
+        byte[] smile = mockMvc.perform(post("/api/events")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(BinaryMediaTypes.SMILE)
+                .content(objectMapper.writeValueAsString(eventDto)))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentTypeCompatibleWith(BinaryMediaTypes.SMILE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode errors = new ObjectMapper(new SmileFactory()).readTree(smile);
+        assertTrue(errors.path("errors").isArray());
+        assertTrue(errors.path("errors").size() > 0);
+        assertTrue(errors.path("errors").get(0).has("objectName"));
+        assertTrue(errors.path("_links").path("index").has("href"));
+        assertFalse(errors.has("links"));
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.restapidemo.config;
+
+import com.example.restapidemo.common.BaseControllerTest;
+import com.example.restapidemo.events.EventDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.MediaType;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+public class MetricsConfigTest extends BaseControllerTest {
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Test
+    void requestMetrics() throws Exception {
+        mockMvc.perform(get("/api/events"))
+                .andExpect(status().isOk());
+
+        assertNotNull(meterRegistry.find("http.server.requests").tag("uri", "/api/events").timer());
+        DistributionSummary statements = meterRegistry.find("http.server.requests.jdbc.statements")
+                .tag("uri", "/api/events")
+                .summary();
+        assertNotNull(statements);
+        assertTrue(statements.totalAmount() > 0);
+        assertNotNull(meterRegistry.find("hikaricp.connections.active").gauge());
+    }
+
+    @Test
+    void validationFailureCounter() throws Exception {
+        EventDto event = EventDto.builder()
+                .name("Spring")
+                .description("REST API Development with Spring")
+                .beginEnrollmentDateTime(LocalDateTime.of(2020, 10, 12, 11, 7))
+                .closeEnrollmentDateTime(LocalDateTime.of(2020, 9, 13, 11, 7))
+                .beginEventDateTime(LocalDateTime.of(2020, 9, 14, 11, 7))
+                .endEventDateTime(LocalDateTime.of(2020, 8, 15, 11, 7))
+                .basePrice(10000)
+                .maxPrice(200)
+                .limitOfEnrollment(100)
+                .build();
+
+        mockMvc.perform(post("/api/events")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(event))
+                .accept(MediaTypes.HAL_JSON))
+                .andExpect(status().isBadRequest());
+
+        Counter counter = meterRegistry.find("event.validation.failures").tag("operation", "create").counter();
+        assertNotNull(counter);
+        assertTrue(counter.count() >= 1);
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.restapidemo.config;
+
+import com.example.restapidemo.common.BaseControllerTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@TestPropertySource(properties = {
+        "app.rate-limit.enabled=true",
+        "app.rate-limit.anonymous.read.capacity=2",
+        "app.rate-limit.anonymous.read.refill-per-second=0.1",
+        "spring.datasource.url=jdbc:h2:mem:ratelimitdb",
+        "spring.datasource.hikari.jdbc-url=jdbc:h2:mem:ratelimitdb"
+})
+class RateLimitFilterTest extends BaseControllerTest {
+
+    @Test
+    void throttlesAnonymousClientsByAddress() throws Exception {
+        mockMvc.perform(get("/api").with(request -> remoteAddress(request, "10.0.0.1")))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api").with(request -> remoteAddress(request, "10.0.0.1")))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api").with(request -> remoteAddress(request, "10.0.0.1")))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "10"));
+
+        mockMvc.perform(get("/api").with(request -> remoteAddress(request, "10.0.0.2")))
+                .andExpect(status().isOk());
+    }
+
+    private static MockHttpServletRequest remoteAddress(MockHttpServletRequest request, String address) {
+        request.setRemoteAddr(address);
+        return request;
+    }
+}
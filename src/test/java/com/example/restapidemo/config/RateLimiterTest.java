@@ -0,0 +1,71 @@
+package com.example.restapidemo.config;
+
+import com.example.restapidemo.accounts.AccountRole;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RateLimiterTest {
+
+    @Test
+    void rejectsAfterCapacityUntilRefilled() {
+        RateLimiter rateLimiter = new RateLimiter(properties(), username -> Set.of());
+
+        assertEquals(0, rateLimiter.acquire(null, "10.0.0.1", false));
+        assertEquals(0, rateLimiter.acquire(null, "10.0.0.1", false));
+        long waitNanos = rateLimiter.acquire(null, "10.0.0.1", false);
+
+        assertTrue(waitNanos > 0 && waitNanos <= 1_000_000_000L, Long.toString(waitNanos));
+        assertEquals(0, rateLimiter.acquire(null, "10.0.0.2", false));
+    }
+
+    @Test
+    void readAndWriteQuotasAreSeparate() {
+        RateLimiter rateLimiter = new RateLimiter(properties(), username -> Set.of());
+
+        assertEquals(0, rateLimiter.acquire(null, "10.0.0.1", true));
+        assertTrue(rateLimiter.acquire(null, "10.0.0.1", true) > 0);
+        assertEquals(0, rateLimiter.acquire(null, "10.0.0.1", false));
+    }
+
+    @Test
+    void usesQuotaOfAccountRole() {
+        RateLimiter rateLimiter = new RateLimiter(properties(),
+                username -> username.equals("admin") ? Set.of(AccountRole.USER, AccountRole.ADMIN) : Set.of(AccountRole.USER));
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, rateLimiter.acquire("admin", "10.0.0.1", true));
+        }
+        assertTrue(rateLimiter.acquire("admin", "10.0.0.1", true) > 0);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, rateLimiter.acquire("user", "10.0.0.1", true));
+        }
+        assertTrue(rateLimiter.acquire("user", "10.0.0.1", true) > 0);
+    }
+
+    private static RateLimitProperties properties() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setAnonymous(quota(2, 1));
+        properties.setRoles(Map.of(AccountRole.USER, quota(10, 3), AccountRole.ADMIN, quota(10, 5)));
+        return properties;
+    }
+
+    private static RateLimitProperties.Quota quota(int readCapacity, int writeCapacity) {
+        RateLimitProperties.Quota quota = new RateLimitProperties.Quota();
+        quota.setRead(limit(readCapacity));
+        quota.setWrite(limit(writeCapacity));
+        return quota;
+    }
+
+    private static RateLimitProperties.Limit limit(int capacity) {
+        RateLimitProperties.Limit limit = new RateLimitProperties.Limit();
+        limit.setCapacity(capacity);
+        limit.setRefillPerSecond(1);
+        return limit;
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.restapidemo.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ReadReplicaRoutingDataSourceTest {
+
+    DataSource primary = database("primary");
+    DataSource replica1 = database("replica1");
+    DataSource replica2 = database("replica2");
+
+    @BeforeEach
+    void setUp() {
+        for (DataSource dataSource : List.of(primary, replica1, replica2)) {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            jdbcTemplate.execute("create table if not exists marker (name varchar(20))");
+            jdbcTemplate.execute("delete from marker");
+        }
+        new JdbcTemplate(primary).update("insert into marker values ('primary')");
+        new JdbcTemplate(replica1).update("insert into marker values ('replica1')");
+        new JdbcTemplate(replica2).update("insert into marker values ('replica2')");
+    }
+
+    @Test
+    void readOnlyTransactionsGoToReplicasRoundRobin() {
+        DataSource dataSource = routing(List.of(replica1, replica2));
+
+        assertEquals("replica1", read(dataSource, true));
+        assertEquals("replica2", read(dataSource, true));
+        assertEquals("replica1", read(dataSource, true));
+        assertEquals("primary", read(dataSource, false));
+    }
+
+    @Test
+    void writesAndNonTransactionalWorkGoToPrimary() {
+        DataSource dataSource = routing(List.of(replica1));
+
+        assertEquals("primary", new JdbcTemplate(dataSource).queryForObject("select name from marker", String.class));
+        transactionTemplate(dataSource, false).executeWithoutResult(status ->
+                new JdbcTemplate(dataSource).update("insert into marker values ('written')"));
+        assertEquals(1, count(primary, "written"));
+        assertEquals(0, count(replica1, "written"));
+    }
+
+    @Test
+    void fallsBackWhenReplicaIsDown() {
+        DataSource down = new DriverManagerDataSource() {
+            @Override
+            protected java.sql.Connection getConnectionFromDriver(String username, String password) throws SQLException {
+                throw new SQLException("replica down");
+            }
+        };
+
+        assertEquals("replica1", read(routing(List.of(down, replica1)), true));
+        assertEquals("primary", read(routing(List.of(down)), true));
+    }
+
+    private DataSource routing(List<DataSource> replicas) {
+        return new LazyConnectionDataSourceProxy(new ReadReplicaRoutingDataSource(primary, replicas, Duration.ofMinutes(1)));
+    }
+
+    private String read(DataSource dataSource, boolean readOnly) {
+        return transactionTemplate(dataSource, readOnly).execute(status ->
+                new JdbcTemplate(dataSource).queryForObject("select name from marker", String.class));
+    }
+
+    private TransactionTemplate transactionTemplate(DataSource dataSource, boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate;
+    }
+
+    private int count(DataSource dataSource, String name) {
+        return new JdbcTemplate(dataSource).queryForObject("select count(*) from marker where name = ?", Integer.class, name);
+    }
+
+    private static DataSource database(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+}
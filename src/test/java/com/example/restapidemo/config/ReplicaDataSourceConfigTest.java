@@ -0,0 +1,155 @@
+package com.example.restapidemo.config;
+
+import com.example.restapidemo.accounts.Account;
+import com.example.restapidemo.accounts.AccountRepository;
+import com.example.restapidemo.accounts.AccountRole;
+import com.example.restapidemo.common.BaseControllerTest;
+import com.example.restapidemo.events.EventDto;
+import com.zaxxer.hikari.HikariDataSource;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 주 DB 와 복제본을 별도 H2 로 띄워, 읽기 전용 트랜잭션이 JpaTransactionManager 와 LazyConnectionDataSourceProxy 를 거쳐
+ * 복제본으로 가고 쓰기는 주 DB 로 가는지 확인한다. 복제본에는 주 DB 를 복사한 뒤 값을 바꿔 두어 어느 쪽에서 읽었는지 구분한다.
+ */
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routingprimarydb",
+        "spring.datasource.hikari.jdbc-url=jdbc:h2:mem:routingprimarydb",
+        "app.datasource.replicas[0].url=" + ReplicaDataSourceConfigTest.REPLICA_URL,
+        "app.datasource.replicas[0].username=sa",
+        "app.datasource.replicas[0].password="
+})
+class ReplicaDataSourceConfigTest extends BaseControllerTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:routingreplicadb;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    HikariDataSource primaryDataSource;
+
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Test
+    @DisplayName("쓰기는_주_DB_읽기는_복제본")
+    void readsGoToReplicaAndWritesToPrimary() throws Exception {
+        Account account = accountRepository.save(Account.builder()
+                .email("routing@email.com")
+                .password("primary")
+                .roles(Set.of(AccountRole.USER))
+                .build());
+        mockMvc.perform(post("/api/events")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(eventDto())))
+                .andExpect(status().isCreated());
+
+        JdbcTemplate primary = new JdbcTemplate(primaryDataSource);
+        JdbcTemplate replica = new JdbcTemplate(replicaDataSource());
+        assertEquals(1, count(primary, "select count(*) from account where email = 'routing@email.com'"));
+        assertEquals(1, count(primary, "select count(*) from event where name = 'Routing'"));
+        assertEquals(0, count(replica, "select count(*) from account"));
+        assertEquals(0, count(replica, "select count(*) from event"));
+
+        copy(primary, replica, "SCRIPT");
+        replica.update("update account set password = 'replica'");
+        replica.update("update event set name = 'Replica Routing'");
+        Integer eventId = replica.queryForObject("select id from event", Integer.class);
+
+        assertEquals("replica", accountRepository.findByEmail(account.getEmail()).orElseThrow().getPassword());
+        mockMvc.perform(get("/api/events/{id}", eventId).accept(MediaTypes.HAL_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("name").value("Replica Routing"));
+        mockMvc.perform(get("/api/events").accept(MediaTypes.HAL_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("page.totalElements").value(1))
+                .andExpect(jsonPath("$..name", Matchers.contains("Replica Routing")));
+    }
+
+    private static EventDto eventDto() {
+        return EventDto.builder()
+                .name("Routing")
+                .description("REST API Development with Spring")
+                .beginEnrollmentDateTime(LocalDateTime.of(2020, 10, 12, 11, 7))
+                .closeEnrollmentDateTime(LocalDateTime.of(2020, 10, 13, 11, 7))
+                .beginEventDateTime(LocalDateTime.of(2020, 10, 14, 11, 7))
+                .endEventDateTime(LocalDateTime.of(2020, 10, 15, 11, 7))
+                .basePrice(0)
+                .maxPrice(0)
+                .limitOfEnrollment(100)
+                .location("강남역 D2 스타텁 팩토리")
+                .build();
+    }
+
+    private static int count(JdbcTemplate jdbcTemplate, String sql) {
+        return jdbcTemplate.queryForObject(sql, Integer.class);
+    }
+
+    /**
+     * H2 SCRIPT 로 주 DB 를 덤프해 복제본을 같은 상태로 다시 만든다.
+     */
+    private static void copy(JdbcTemplate primary, JdbcTemplate replica, String script) {
+        List<String> statements = primary.queryForList(script, String.class);
+        replica.execute("DROP ALL OBJECTS");
+        statements.forEach(replica::execute);
+    }
+
+    private static DataSource replicaDataSource() {
+        return new DriverManagerDataSource(REPLICA_URL, "sa", "");
+    }
+
+    @TestConfiguration
+    static class ReplicaSchemaConfig {
+
+        @Bean
+        ReplicaSchema replicaSchema(EntityManagerFactory entityManagerFactory, HikariDataSource primaryDataSource) {
+            return new ReplicaSchema(entityManagerFactory, primaryDataSource);
+        }
+    }
+
+    /**
+     * Hibernate 는 주 DB 에만 스키마를 만들므로, 시작 시 읽기 작업이 복제본으로 가기 전에 스키마를 복사해 둔다.
+     * JPA 는 백그라운드에서 초기화되므로 EntityManagerFactory 가 준비될 때까지 기다린다.
+     */
+    static class ReplicaSchema {
+
+        private final EntityManagerFactory entityManagerFactory;
+        private final DataSource primaryDataSource;
+
+        ReplicaSchema(EntityManagerFactory entityManagerFactory, DataSource primaryDataSource) {
+            this.entityManagerFactory = entityManagerFactory;
+            this.primaryDataSource = primaryDataSource;
+        }
+
+        @EventListener(ApplicationReadyEvent.class)
+        @Order(Ordered.HIGHEST_PRECEDENCE)
+        public void copySchema() {
+            entityManagerFactory.getMetamodel();
+            copy(new JdbcTemplate(primaryDataSource), new JdbcTemplate(replicaDataSource()), "SCRIPT NODATA");
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.example.restapidemo.events;
+
+import com.example.restapidemo.common.BaseControllerTest;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
+import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
+import static org.springframework.restdocs.hypermedia.HypermediaDocumentation.linkWithRel;
+import static org.springframework.restdocs.hypermedia.HypermediaDocumentation.links;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:enrollmentdb",
+        "spring.datasource.hikari.jdbc-url=jdbc:h2:mem:enrollmentdb"
+})
+public class EnrollmentControllerTest extends BaseControllerTest {
+
+    private static final int REQUESTS = 10_000;
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    EnrollmentWriter enrollmentWriter;
+
+    @Autowired
+    EnrollmentSeats enrollmentSeats;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("이벤트_참가_신청")
+    void enroll() throws Exception {
+        Event event = generateEvent(10, EventStatus.BEGAN_ENROLLMENT);
+
+        mockMvc.perform(post("/api/events/{id}/enrollments", event.getId())
+                .accept(MediaTypes.HAL_JSON))
+                .andDo(print())
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("eventId").value(event.getId()))
+                .andExpect(jsonPath("_links.event").exists())
+                .andDo(document("enroll-event",
+                        links(
+                                linkWithRel("event").description("link to the event"),
+                                linkWithRel("profile").description("profile")
+                        ),
+                        requestHeaders(
+                                headerWithName(HttpHeaders.ACCEPT).description("accept header")
+                        )
+                ));
+
+        enrollmentWriter.flush();
+        assertEquals(1, enrollmentRepository.countByEventId(event.getId()));
+    }
+
+    @Test
+    @DisplayName("이벤트_참가_신청_실패_신청_기간_아님")
+    void enrollClosed() throws Exception {
+        Event event = generateEvent(10, EventStatus.PUBLISHED);
+
+        mockMvc.perform(post("/api/events/{id}/enrollments", event.getId()))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    @DisplayName("이벤트_참가_신청_실패_없는_이벤트")
+    void enrollNotFound() throws Exception {
+        mockMvc.perform(post("/api/events/{id}/enrollments", 123456))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("동시_참가_신청_10000건_정원만큼만_접수하고_재시작_후_복원")
+    void enrollConcurrently() throws Exception {
+        int limit = 100;
+        Event event = generateEvent(limit, EventStatus.BEGAN_ENROLLMENT);
+
+        ExecutorService executor = Executors.newFixedThreadPool(64);
+        CountDownLatch start = new CountDownLatch(1);
+        Map<Integer, Integer> statuses = new TreeMap<>();
+        try {
+            List<Future<Integer>> futures = new ArrayList<>(REQUESTS);
+            for (int i = 0; i < REQUESTS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return mockMvc.perform(post("/api/events/{id}/enrollments", event.getId()))
+                            .andReturn().getResponse().getStatus();
+                }));
+            }
+            start.countDown();
+            for (Future<Integer> future : futures) {
+                statuses.merge(future.get(60, TimeUnit.SECONDS), 1, Integer::sum);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(Map.of(202, limit, 409, REQUESTS - limit), statuses);
+        enrollmentWriter.flush();
+        assertEquals(limit, enrollmentRepository.countByEventId(event.getId()));
+
+        // 재시작한 것처럼 빈 카운터를 DB 에서 복원한다.
+        EnrollmentSeats restarted = new EnrollmentSeats(eventRepository, enrollmentRepository);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> restarted.rebuild());
+        assertEquals(limit, restarted.enrolled(event.getId()));
+        assertEquals(EnrollmentSeats.Result.FULL, restarted.tryEnroll(event.getId(), null));
+    }
+
+    @Test
+    @DisplayName("기록할_수_없는_신청만_좌석을_돌려줌")
+    void releasesOnlyFailingEnrollments() {
+        Event event = generateEvent(10, EventStatus.BEGAN_ENROLLMENT);
+        String tooLong = "x".repeat(300);
+        assertEquals(EnrollmentSeats.Result.ACCEPTED, enrollmentSeats.tryEnroll(event.getId(), "user"));
+        assertEquals(EnrollmentSeats.Result.ACCEPTED, enrollmentSeats.tryEnroll(event.getId(), tooLong));
+        assertEquals(EnrollmentSeats.Result.ACCEPTED, enrollmentSeats.tryEnroll(event.getId(), "other"));
+
+        enrollmentWriter.submit(event.getId(), "user");
+        enrollmentWriter.submit(event.getId(), tooLong);
+        enrollmentWriter.submit(event.getId(), "other");
+        enrollmentWriter.flush();
+
+        assertEquals(2, enrollmentRepository.countByEventId(event.getId()));
+        assertEquals(2, enrollmentSeats.enrolled(event.getId()));
+    }
+
+    @Test
+    @DisplayName("적재되지_않은_이벤트의_첫_신청이_몰려도_한_번만_적재")
+    void coalescesColdLoads() throws Exception {
+        Event event = generateEvent(REQUESTS, EventStatus.BEGAN_ENROLLMENT);
+        EnrollmentSeats seats = new EnrollmentSeats(eventRepository, enrollmentRepository);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long statementsBefore = statistics.getPrepareStatementCount();
+
+        ExecutorService executor = Executors.newFixedThreadPool(64);
+        CountDownLatch start = new CountDownLatch(1);
+        Map<EnrollmentSeats.Result, Integer> results = new TreeMap<>();
+        try {
+            List<Future<EnrollmentSeats.Result>> futures = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                String username = "user" + i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return seats.tryEnroll(event.getId(), username);
+                }));
+            }
+            start.countDown();
+            for (Future<EnrollmentSeats.Result> future : futures) {
+                results.merge(future.get(60, TimeUnit.SECONDS), 1, Integer::sum);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(Map.of(EnrollmentSeats.Result.ACCEPTED, 64), results);
+        // 이벤트 하나와 기존 신청자 목록을 한 번씩만 읽는다.
+        assertEquals(2, statistics.getPrepareStatementCount() - statementsBefore);
+    }
+
+    @Test
+    @DisplayName("신청_접수가_시작되면_적재되지_않은_이벤트도_적재")
+    void refreshLoadsSeatsWhenEnrollmentBegins() {
+        Event event = generateEvent(10, EventStatus.PUBLISHED);
+        enrollmentRepository.save(Enrollment.builder().event(event).username("user").enrolledAt(LocalDateTime.now()).build());
+        EnrollmentSeats seats = new EnrollmentSeats(eventRepository, enrollmentRepository);
+        assertEquals(0, seats.enrolled(event.getId()));
+
+        event.setEventStatus(EventStatus.BEGAN_ENROLLMENT);
+        eventRepository.save(event);
+        seats.refresh(event.getId(), EventStatus.BEGAN_ENROLLMENT);
+
+        assertEquals(1, seats.enrolled(event.getId()));
+        assertEquals(EnrollmentSeats.Result.DUPLICATE, seats.tryEnroll(event.getId(), "user"));
+        assertEquals(EnrollmentSeats.Result.ACCEPTED, seats.tryEnroll(event.getId(), "other"));
+    }
+
+    private Event generateEvent(int limitOfEnrollment, EventStatus eventStatus) {
+        return eventRepository.save(Event.builder()
+                .name("Spring")
+                .description("REST API Development with Spring")
+                .beginEnrollmentDateTime(LocalDateTime.of(2020, 10, 12, 11, 7))
+                .closeEnrollmentDateTime(LocalDateTime.of(2020, 10, 13, 11, 7))
+                .beginEventDateTime(LocalDateTime.of(2020, 10, 14, 11, 7))
+                .endEventDateTime(LocalDateTime.of(2020, 10, 15, 11, 7))
+                .limitOfEnrollment(limitOfEnrollment)
+                .eventStatus(eventStatus)
+                .build());
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.restapidemo.events;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EnrollmentSeatsTest {
+
+    private static final int REQUESTS = 10_000;
+
+    @Test
+    @DisplayName("동시_신청이_몰려도_정원을_넘지_않음")
+    void neverOversells() throws Exception {
+        EnrollmentSeats.Seats seats = new EnrollmentSeats.Seats(event(100, EventStatus.BEGAN_ENROLLMENT));
+
+        Map<EnrollmentSeats.Result, Integer> results = enrollConcurrently(seats, false);
+
+        assertEquals(100, results.get(EnrollmentSeats.Result.ACCEPTED));
+        assertEquals(REQUESTS - 100, results.get(EnrollmentSeats.Result.FULL));
+    }
+
+    @Test
+    @DisplayName("같은_사용자의_동시_신청은_한_번만_접수")
+    void rejectsDuplicates() throws Exception {
+        EnrollmentSeats.Seats seats = new EnrollmentSeats.Seats(event(REQUESTS, EventStatus.BEGAN_ENROLLMENT));
+
+        Map<EnrollmentSeats.Result, Integer> results = enrollConcurrently(seats, true);
+
+        assertEquals(1, results.get(EnrollmentSeats.Result.ACCEPTED));
+        assertEquals(REQUESTS - 1, results.get(EnrollmentSeats.Result.DUPLICATE));
+    }
+
+    @Test
+    @DisplayName("신청_기간이_아니면_거부하고_상태가_바뀌면_반영")
+    void closedUntilEnrollmentBegins() {
+        Event event = event(1, EventStatus.PUBLISHED);
+        EnrollmentSeats.Seats seats = new EnrollmentSeats.Seats(event);
+        assertEquals(EnrollmentSeats.Result.CLOSED, seats.acquire("user"));
+
+        event.setEventStatus(EventStatus.BEGAN_ENROLLMENT);
+        seats.update(event);
+        assertEquals(EnrollmentSeats.Result.ACCEPTED, seats.acquire("user"));
+        assertEquals(EnrollmentSeats.Result.FULL, seats.acquire("other"));
+
+        seats.release("user");
+        assertEquals(EnrollmentSeats.Result.ACCEPTED, seats.acquire("other"));
+    }
+
+    private static Map<EnrollmentSeats.Result, Integer> enrollConcurrently(EnrollmentSeats.Seats seats,
+                                                                           boolean sameUser) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(64);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<EnrollmentSeats.Result>> futures = new ArrayList<>(REQUESTS);
+            for (int i = 0; i < REQUESTS; i++) {
+                String username = sameUser ? "user" : "user" + i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return seats.acquire(username);
+                }));
+            }
+            start.countDown();
+
+            Map<EnrollmentSeats.Result, Integer> results = new EnumMap<>(EnrollmentSeats.Result.class);
+            for (Future<EnrollmentSeats.Result> future : futures) {
+                results.merge(future.get(10, TimeUnit.SECONDS), 1, Integer::sum);
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+    }
+
+    private static Event event(int limitOfEnrollment, EventStatus eventStatus) {
+        return Event.builder()
+                .id(1)
+                .limitOfEnrollment(limitOfEnrollment)
+                .eventStatus(eventStatus)
+                .build();
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.restapidemo.events;
+
+import com.example.restapidemo.common.BaseControllerTest;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@TestPropertySource(properties = {
+        "app.cache.enabled=true",
+        "spring.datasource.url=jdbc:h2:mem:cachedb",
+        "spring.datasource.hikari.jdbc-url=jdbc:h2:mem:cachedb"
+})
+public class EventCacheTest extends BaseControllerTest {
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("이벤트_조회_2차_캐시_적중")
+    void getEventFromSecondLevelCache() throws Exception {
+        Event event = generateEvent();
+
+        mockMvc.perform(get("/api/events/{id}", event.getId()))
+                .andExpect(status().isOk());
+        statistics.clear();
+        mockMvc.perform(get("/api/events/{id}", event.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("name").value(event.getName()));
+
+        assertEquals(1, statistics.getSecondLevelCacheHitCount());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("이벤트_수정_후_2차_캐시_갱신")
+    void updateEventInvalidatesSecondLevelCache() throws Exception {
+        Event event = generateEvent();
+        mockMvc.perform(get("/api/events/{id}", event.getId()))
+                .andExpect(status().isOk());
+
+        EventDto updateEvent = EventDto.builder()
+                .name("updated events")
+                .description(event.getDescription())
+                .beginEnrollmentDateTime(event.getBeginEnrollmentDateTime())
+                .closeEnrollmentDateTime(event.getCloseEnrollmentDateTime())
+                .beginEventDateTime(event.getBeginEventDateTime())
+                .endEventDateTime(event.getEndEventDateTime())
+                .limitOfEnrollment(event.getLimitOfEnrollment())
+                .build();
+        mockMvc.perform(put("/api/events/{id}", event.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updateEvent)))
+                .andExpect(status().isOk());
+
+        statistics.clear();
+        mockMvc.perform(get("/api/events/{id}", event.getId()))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("name").value("updated events"));
+        assertTrue(statistics.getSecondLevelCacheHitCount() + statistics.getSecondLevelCacheMissCount() > 0);
+    }
+
+    private Event generateEvent() {
+        Event event = Event.builder()
+                .name("Cached Event")
+                .description("Test Event")
+                .beginEnrollmentDateTime(LocalDateTime.of(2020, 10, 12, 11, 7))
+                .closeEnrollmentDateTime(LocalDateTime.of(2020, 10, 13, 11, 7))
+                .beginEventDateTime(LocalDateTime.of(2020, 10, 14, 11, 7))
+                .endEventDateTime(LocalDateTime.of(2020, 10, 15, 11, 7))
+                .limitOfEnrollment(100)
+                .eventStatus(EventStatus.DRAFT)
+                .build();
+        return eventRepository.save(event);
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.restapidemo.events;
+
+import com.example.restapidemo.common.BaseControllerTest;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@TestPropertySource(properties = {
+        "app.async.enabled=true",
+        "spring.datasource.url=jdbc:h2:mem:asyncdb",
+        "spring.datasource.hikari.jdbc-url=jdbc:h2:mem:asyncdb"
+})
+public class EventControllerAsyncTest extends BaseControllerTest {
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("비동기_모드_이벤트_조회")
+    void getEvent() throws Exception {
+        Event event = eventRepository.save(Event.builder()
+                .name("Spring")
+                .description("REST API Development with Spring")
+                .beginEnrollmentDateTime(LocalDateTime.of(2020, 10, 12, 11, 7))
+                .closeEnrollmentDateTime(LocalDateTime.of(2020, 10, 13, 11, 7))
+                .beginEventDateTime(LocalDateTime.of(2020, 10, 14, 11, 7))
+                .endEventDateTime(LocalDateTime.of(2020, 10, 15, 11, 7))
+                .limitOfEnrollment(100)
+                .build());
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/events/{id}", event.getId()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(jsonPath("name").value("Spring"))
+                .andExpect(jsonPath("_links.self.href", Matchers.endsWith("/api/events/" + event.getId())));
+    }
+
+    @Test
+    @DisplayName("비동기_모드_작업_스레드의_JDBC_문_수_기록")
+    void recordsWorkerStatements() throws Exception {
+        Event event = eventRepository.save(Event.builder()
+                .name("Spring")
+                .description("REST API Development with Spring")
+                .limitOfEnrollment(100)
+                .build());
+
+        DistributionSummary statements = meterRegistry.summary("http.server.requests.jdbc.statements",
+                "method", "GET", "uri", "/api/events/{id}", "status", "200");
+        long count = statements.count();
+        double total = statements.totalAmount();
+        for (int i = 0; i < 2; i++) {
+            MvcResult mvcResult = mockMvc.perform(get("/api/events/{id}", event.getId()))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            mockMvc.perform(asyncDispatch(mvcResult))
+                    .andExpect(status().isOk());
+        }
+
+        // 요청마다 작업 스레드의 select 하나씩만 센다. 작업 스레드 카운터가 누적되면 합계가 더 커진다.
+        assertEquals(count + 2, statements.count());
+        assertEquals(total + 2, statements.totalAmount());
+    }
+
+    @Test
+    @DisplayName("비동기_모드_이벤트_생성_실패_입력값_오류")
+    void createEventBadRequest() throws Exception {
+        MvcResult mvcResult = mockMvc.perform(post("/api/events")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(EventDto.builder().build())))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("_links.index").exists());
+    }
+}
@@ -1,18 +1,36 @@
 package com.example.restapidemo.events;
 
+import com.example.restapidemo.accounts.Account;
+import com.example.restapidemo.accounts.AccountRepository;
+import com.example.restapidemo.accounts.AccountRole;
 import com.example.restapidemo.common.BaseControllerTest;
+import com.jayway.jsonpath.JsonPath;
 import org.hamcrest.Matchers;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.restdocs.payload.JsonFieldType;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 
+import javax.persistence.EntityManagerFactory;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 import static org.springframework.restdocs.headers.HeaderDocumentation.*;
 import static org.springframework.restdocs.hypermedia.HypermediaDocumentation.linkWithRel;
 import static org.springframework.restdocs.hypermedia.HypermediaDocumentation.links;
@@ -27,6 +45,15 @@ public class EventControllerTest extends BaseControllerTest {
     @Autowired
     EventRepository eventRepository;
 
+    @Autowired
+    AccountRepository accountRepository;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    EventSearchIndex eventSearchIndex;
+
     @Test
     @DisplayName("이벤트_생성_성공")
     void createEvent() throws Exception {
@@ -104,6 +131,7 @@ public class EventControllerTest extends BaseControllerTest {
                         fieldWithPath("free").description("it tells tis this event is free or not"),
                         fieldWithPath("offline").description("it tells tis this event is offline or not"),
                         fieldWithPath("eventStatus").description("event status"),
+                        fieldWithPath("manager").type(JsonFieldType.OBJECT).optional().description("manager of event, null if none"),
                         fieldWithPath("_links.self.href").description("link to self"),
                         fieldWithPath("_links.query-events.href").description("link to query event list"),
                         fieldWithPath("_links.update-event.href").description("link to update existing event"),
@@ -142,6 +170,79 @@ public class EventControllerTest extends BaseControllerTest {
         ;
     }
 
+    @Test
+    @DisplayName("이벤트_일괄_생성_성공")
+    void createEvents() throws Exception {
+        List<EventDto> events = IntStream.range(0, 3)
+                .mapToObj(i -> EventDto.builder()
+                        .name("Spring " + i)
+                        .description("REST API Development with Spring")
+                        .beginEnrollmentDateTime(LocalDateTime.of(2020, 10, 12, 11, 7))
+                        .closeEnrollmentDateTime(LocalDateTime.of(2020, 10, 13, 11, 7))
+                        .beginEventDateTime(LocalDateTime.of(2020, 10, 14, 11, 7))
+                        .endEventDateTime(LocalDateTime.of(2020, 10, 15, 11, 7))
+                        .basePrice(100)
+                        .maxPrice(200)
+                        .limitOfEnrollment(100)
+                        .build())
+                .collect(Collectors.toList());
+
+        mockMvc.perform(post("/api/events/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(events))
+                .accept(MediaTypes.HAL_JSON))
+                .andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("created").value(3))
+                .andExpect(jsonPath("ids", Matchers.hasSize(3)))
+                .andExpect(jsonPath("_embedded").doesNotExist())
+                .andExpect(jsonPath("_links.query-events").exists())
+                .andExpect(jsonPath("_links.profile").exists());
+    }
+
+    @Test
+    @DisplayName("이벤트_일괄_생성_실패_항목별_오류")
+    void createEventsBadRequest() throws Exception {
+        EventDto valid = EventDto.builder()
+                .name("Spring")
+                .description("REST API Development with Spring")
+                .beginEnrollmentDateTime(LocalDateTime.of(2020, 10, 12, 11, 7))
+                .closeEnrollmentDateTime(LocalDateTime.of(2020, 10, 13, 11, 7))
+                .beginEventDateTime(LocalDateTime.of(2020, 10, 14, 11, 7))
+                .endEventDateTime(LocalDateTime.of(2020, 10, 15, 11, 7))
+                .basePrice(100)
+                .maxPrice(200)
+                .limitOfEnrollment(100)
+                .build();
+        EventDto wrongPrice = EventDto.builder()
+                .name("Spring")
+                .description("REST API Development with Spring")
+                .beginEnrollmentDateTime(LocalDateTime.of(2020, 10, 12, 11, 7))
+                .closeEnrollmentDateTime(LocalDateTime.of(2020, 10, 13, 11, 7))
+                .beginEventDateTime(LocalDateTime.of(2020, 10, 14, 11, 7))
+                .endEventDateTime(LocalDateTime.of(2020, 10, 15, 11, 7))
+                .basePrice(10000)
+                .maxPrice(200)
+                .limitOfEnrollment(100)
+                .build();
+        EventDto empty = new EventDto();
+        long count = eventRepository.count();
+
+        mockMvc.perform(post("/api/events/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(valid, wrongPrice, empty)))
+                .accept(MediaTypes.HAL_JSON))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("_embedded.eventBatchErrorList", Matchers.hasSize(2)))
+                .andExpect(jsonPath("_embedded.eventBatchErrorList[0].index").value(1))
+                .andExpect(jsonPath("_embedded.eventBatchErrorList[0].errors[0].code").exists())
+                .andExpect(jsonPath("_embedded.eventBatchErrorList[1].index").value(2))
+                .andExpect(jsonPath("_links.index").exists());
+
+        assertEquals(count, eventRepository.count());
+    }
+
     @Test
     void queryEvents() throws Exception {
         IntStream.range(0, 30).forEach(this::generateEvent);
@@ -160,11 +261,222 @@ public class EventControllerTest extends BaseControllerTest {
         result.andDo(document("query-events"));
     }
 
+    @Test
+    @DisplayName("이벤트_목록_조회_페이지_크기와_무관한_쿼리_수")
+    void queryEventsStatementCount() throws Exception {
+        Account manager = accountRepository.save(Account.builder()
+                .email("manager@email.com")
+                .password("pass")
+                .roles(Set.of(AccountRole.USER))
+                .build());
+        IntStream.range(0, 30).forEach(i -> generateEvent(i, manager));
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        for (int size : new int[]{5, 10}) {
+            statistics.clear();
+            mockMvc.perform(get("/api/events")
+                    .param("page", "1")
+                    .param("size", String.valueOf(size)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("_embedded.eventList", Matchers.hasSize(size)));
+            // select + count
+            assertEquals(2, statistics.getPrepareStatementCount());
+        }
+
+        // 커서 페이징도 같은 projection 으로 읽으므로 count 없이 select 한 번이고, 매니저는 단건 응답과 같은 모양이다.
+        statistics.clear();
+        mockMvc.perform(get("/api/events")
+                .param("after", "")
+                .param("size", "5")
+                .param("sort", "id,DESC"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList", Matchers.hasSize(5)))
+                .andExpect(jsonPath("_embedded.eventList[0].manager.id").value(manager.getId()))
+                .andExpect(jsonPath("_embedded.eventList[0].managerId").doesNotExist());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("이벤트_목록_커서_페이징")
+    void queryEventsByCursor() throws Exception {
+        IntStream.range(0, 30).forEach(this::generateEvent);
+
+        MvcResult firstPage = mockMvc.perform(get("/api/events")
+                .param("after", "")
+                .param("size", "10")
+                .param("sort", "id,DESC"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("page").doesNotExist())
+                .andExpect(jsonPath("_embedded.eventList", Matchers.hasSize(10)))
+                .andExpect(jsonPath("_links.self").exists())
+                .andExpect(jsonPath("_links.next").exists())
+                .andExpect(jsonPath("_links.prev").doesNotExist())
+                .andExpect(jsonPath("_links.profile").exists())
+                .andReturn();
+        String firstPageBody = firstPage.getResponse().getContentAsString();
+        int firstPageLastId = JsonPath.read(firstPageBody, "_embedded.eventList[9].id");
+        String next = JsonPath.read(firstPageBody, "_links.next.href");
+
+        MvcResult secondPage = mockMvc.perform(get(next))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList", Matchers.hasSize(10)))
+                .andExpect(jsonPath("_embedded.eventList[0].id").value(Matchers.lessThan(firstPageLastId)))
+                .andExpect(jsonPath("_links.next").exists())
+                .andExpect(jsonPath("_links.prev").exists())
+                .andReturn();
+        String prev = JsonPath.read(secondPage.getResponse().getContentAsString(), "_links.prev.href");
+
+        mockMvc.perform(get(prev))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList", Matchers.hasSize(10)))
+                .andExpect(jsonPath("_embedded.eventList[9].id").value(firstPageLastId))
+                .andExpect(jsonPath("_links.next").exists());
+    }
+
+    @Test
+    @DisplayName("이벤트_목록_커서_페이징_null_정렬_키")
+    void queryEventsByCursorWithNullSortKey() throws Exception {
+        IntStream.range(0, 7).forEach(index -> {
+            Event event = generateEvent(index);
+            if (index % 2 == 0) {
+                event.setBeginEventDateTime(null);
+                eventRepository.save(event);
+            }
+        });
+        long total = eventRepository.count();
+
+        for (String sort : new String[]{"beginEventDateTime,ASC", "beginEventDateTime,DESC"}) {
+            Set<Integer> ids = new HashSet<>();
+            String href = null;
+            int pages = 0;
+            do {
+                MvcResult page = (href == null
+                        ? mockMvc.perform(get("/api/events").param("after", "").param("size", "3").param("sort", sort))
+                        : mockMvc.perform(get(href)))
+                        .andExpect(status().isOk())
+                        .andReturn();
+                String body = page.getResponse().getContentAsString();
+                List<Integer> pageIds = JsonPath.read(body, "$._embedded.eventList[*].id");
+                pageIds.forEach(id -> assertTrue(ids.add(id), "duplicated " + id));
+                Map<String, Map<String, String>> links = JsonPath.read(body, "$._links");
+                href = links.containsKey("next") ? links.get("next").get("href") : null;
+                assertTrue(++pages <= total, "cursor does not terminate");
+            } while (href != null);
+            assertEquals(total, ids.size());
+        }
+    }
+
+    @Test
+    void queryEventsByWrongCursor() throws Exception {
+        mockMvc.perform(get("/api/events")
+                .param("after", "wrong-cursor"))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("이벤트_조건_검색")
+    void searchEvents() throws Exception {
+        Event event = generateEvent(1);
+        event.setEventStatus(EventStatus.PUBLISHED);
+        event.setBasePrice(5000);
+        event.setMaxPrice(10000);
+        event.update();
+        eventRepository.save(event);
+
+        mockMvc.perform(get("/api/events/search")
+                .param("eventStatus", "PUBLISHED")
+                .param("offline", "true")
+                .param("basePriceFrom", "1000")
+                .param("basePriceTo", "6000")
+                .param("eventFrom", "2020-10-01T00:00:00")
+                .param("eventTo", "2020-10-31T00:00:00"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("page").exists())
+                .andExpect(jsonPath("_embedded.eventList[*].id", Matchers.hasItem(event.getId())))
+                .andExpect(jsonPath("_embedded.eventList[*].eventStatus", Matchers.everyItem(Matchers.is("PUBLISHED"))))
+                .andExpect(jsonPath("_links.profile").exists());
+
+        mockMvc.perform(get("/api/events/search")
+                .param("eventStatus", "PUBLISHED")
+                .param("basePriceFrom", "7000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$..id", Matchers.not(Matchers.hasItem(event.getId()))));
+    }
+
+    @Test
+    @DisplayName("이벤트_전문_검색_수정_후_재색인")
+    void queryEventsByKeyword() throws Exception {
+        Event event = generateEvent(1);
+        event.setDescription("Kotlin coroutine workshop");
+        eventSearchIndex.index(eventRepository.save(event));
+
+        mockMvc.perform(get("/api/events")
+                .param("q", "korou kotl")
+                .param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$..id", Matchers.not(Matchers.hasItem(event.getId()))));
+
+        mockMvc.perform(get("/api/events")
+                .param("q", "corout kotl")
+                .param("size", "5"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList[0].id").value(event.getId()))
+                .andExpect(jsonPath("_links.self").exists())
+                .andExpect(jsonPath("_links.profile").exists());
+
+        EventDto updateEvent = EventDto.builder()
+                .name("Spring Batch")
+                .description("chunk processing")
+                .beginEnrollmentDateTime(event.getBeginEnrollmentDateTime())
+                .closeEnrollmentDateTime(event.getCloseEnrollmentDateTime())
+                .beginEventDateTime(event.getBeginEventDateTime())
+                .endEventDateTime(event.getEndEventDateTime())
+                .limitOfEnrollment(event.getLimitOfEnrollment())
+                .build();
+        mockMvc.perform(put("/api/events/{id}", event.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updateEvent)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/events").param("q", "kotlin"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$..id", Matchers.not(Matchers.hasItem(event.getId()))));
+        mockMvc.perform(get("/api/events").param("q", "chunk"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.eventList[0].id").value(event.getId()));
+    }
+
+    @Test
+    @DisplayName("이벤트_전체_NDJSON_내보내기")
+    void exportEvents() throws Exception {
+        IntStream.range(0, 30).forEach(this::generateEvent);
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/events/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(EventExporter.NDJSON_VALUE));
+
+        String[] lines = mvcResult.getResponse().getContentAsString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(eventRepository.count(), lines.length);
+        for (String line : lines) {
+            assertTrue(objectMapper.readTree(line).hasNonNull("id"));
+        }
+    }
+
     @Test
     void getEvent() throws Exception {
         Event event = generateEvent(1);
 
-        mockMvc.perform(get("/api/events/{id}", 1))
+        mockMvc.perform(get("/api/events/{id}", event.getId()))
                 .andDo(print())
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("id").exists())
@@ -175,12 +487,161 @@ public class EventControllerTest extends BaseControllerTest {
     }
 
     @Test
-    void updateEvent() throws Exception {
+    @DisplayName("이벤트_조회_ETag_변경_없으면_304")
+    void getEventNotModified() throws Exception {
         Event event = generateEvent(1);
 
+        String eTag = mockMvc.perform(get("/api/events/{id}", event.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/events/{id}", event.getId())
+                .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+
+        mockMvc.perform(get("/api/events/{id}", event.getId())
+                .header(HttpHeaders.IF_NONE_MATCH, "\"-1\""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("id").value(event.getId()));
+    }
+
+    @Test
+    @DisplayName("이벤트_수정_free_offline_다시_계산")
+    void updateEventRecomputesFreeAndOffline() throws Exception {
+        Event event = generateEvent(300);
+
         EventDto updateEvent = EventDto.builder()
-                .name("updated events")
+                .name(event.getName())
+                .description(event.getDescription())
+                .beginEnrollmentDateTime(event.getBeginEnrollmentDateTime())
+                .closeEnrollmentDateTime(event.getCloseEnrollmentDateTime())
+                .beginEventDateTime(event.getBeginEventDateTime())
+                .endEventDateTime(event.getEndEventDateTime())
+                .basePrice(0)
+                .maxPrice(0)
+                .limitOfEnrollment(event.getLimitOfEnrollment())
+                .location("강남역 D2 스타텁 팩토리")
                 .build();
+        mockMvc.perform(put("/api/events/{id}", event.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updateEvent)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("free").value(true))
+                .andExpect(jsonPath("offline").value(true));
+
+        Event updated = eventRepository.findById(event.getId()).orElseThrow();
+        assertTrue(updated.isFree());
+        assertTrue(updated.isOffline());
+    }
+
+    @Test
+    @DisplayName("이벤트_수정_If-Match_불일치_412")
+    void updateEventPreconditionFailed() throws Exception {
+        Event event = generateEvent(1);
+        EventDto updateEvent = updateDto(event, "updated events");
+
+        mockMvc.perform(put("/api/events/{id}", event.getId())
+                .header(HttpHeaders.IF_MATCH, "\"-1\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updateEvent)))
+                .andDo(print())
+                .andExpect(status().isPreconditionFailed());
+
+        String eTag = mockMvc.perform(get("/api/events/{id}", event.getId()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(put("/api/events/{id}", event.getId())
+                .header(HttpHeaders.IF_MATCH, eTag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updateEvent)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, Matchers.not(eTag)))
+                .andExpect(jsonPath("name").value(updateEvent.getName()));
+    }
+
+    @Test
+    @DisplayName("이벤트_부분_수정_보낸_필드만_변경")
+    void patchEvent() throws Exception {
+        Event event = generateEvent(1);
+        String eTag = EventControllerTest.eTag(event);
+
+        mockMvc.perform(patch("/api/events/{id}", event.getId())
+                .header(HttpHeaders.IF_MATCH, eTag)
+                .contentType(EventController.MERGE_PATCH_JSON_VALUE)
+                .content("{\"name\":\"patched event\",\"basePrice\":100,\"maxPrice\":200,\"location\":null}"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, Matchers.not(eTag)))
+                .andExpect(jsonPath("name").value("patched event"))
+                .andExpect(jsonPath("description").value(event.getDescription()))
+                .andExpect(jsonPath("basePrice").value(100))
+                .andExpect(jsonPath("free").value(false))
+                .andExpect(jsonPath("location").doesNotExist())
+                .andExpect(jsonPath("offline").value(false))
+                .andExpect(jsonPath("_links.self").exists())
+                .andExpect(jsonPath("_links.profile").exists());
+
+        Event patchedEvent = eventRepository.findById(event.getId()).orElseThrow();
+        assertEquals("patched event", patchedEvent.getName());
+        assertEquals(event.getEndEventDateTime(), patchedEvent.getEndEventDateTime());
+        assertEquals(event.getVersion() + 1, patchedEvent.getVersion());
+    }
+
+    @Test
+    @DisplayName("이벤트_부분_수정_실패_입력값_오류")
+    void patchEventBadRequest() throws Exception {
+        Event event = generateEvent(1);
+
+        mockMvc.perform(patch("/api/events/{id}", event.getId())
+                .contentType(EventController.MERGE_PATCH_JSON_VALUE)
+                .content("{\"endEventDateTime\":\"2020-10-01T00:00:00\"}"))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("errors[0].field").value("endEventDateTime"));
+
+        mockMvc.perform(patch("/api/events/{id}", event.getId())
+                .contentType(EventController.MERGE_PATCH_JSON_VALUE)
+                .content("{\"name\":null}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("errors[0].field").value("name"));
+
+        mockMvc.perform(patch("/api/events/{id}", event.getId())
+                .contentType(EventController.MERGE_PATCH_JSON_VALUE)
+                .content("{\"eventStatus\":\"PUBLISHED\"}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("이벤트_부분_수정_If-Match_불일치_412")
+    void patchEventPreconditionFailed() throws Exception {
+        Event event = generateEvent(1);
+
+        mockMvc.perform(patch("/api/events/{id}", event.getId())
+                .header(HttpHeaders.IF_MATCH, "\"-1\"")
+                .contentType(EventController.MERGE_PATCH_JSON_VALUE)
+                .content("{\"name\":\"patched event\"}"))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(patch("/api/events/{id}", 12345)
+                .contentType(EventController.MERGE_PATCH_JSON_VALUE)
+                .content("{\"name\":\"patched event\"}"))
+                .andExpect(status().isNotFound());
+    }
+
+    private static String eTag(Event event) {
+        return "\"" + event.getVersion() + "\"";
+    }
+
+    @Test
+    void updateEvent() throws Exception {
+        Event event = generateEvent(1);
+
+        EventDto updateEvent = updateDto(event, "updated events");
 
         mockMvc.perform(put("/api/events/{id}", 1)
                 .contentType(MediaType.APPLICATION_JSON)
@@ -193,9 +654,49 @@ public class EventControllerTest extends BaseControllerTest {
                 ;
     }
 
+    @Test
+    @DisplayName("이벤트_수정_실패_입력값_오류")
+    void updateEventBadRequest() throws Exception {
+        Event event = generateEvent(1);
+        EventDto updateEvent = EventDto.builder()
+                .name("updated events")
+                .build();
+
+        mockMvc.perform(put("/api/events/{id}", event.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updateEvent)))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("errors[*].field", Matchers.hasItems(
+                        "description", "beginEnrollmentDateTime", "closeEnrollmentDateTime",
+                        "beginEventDateTime", "endEventDateTime")))
+                .andExpect(jsonPath("errors[0].code").value("NotEmpty"))
+                .andExpect(jsonPath("_links.index").exists());
+
+        assertEquals(event.getName(), eventRepository.findById(event.getId()).orElseThrow().getName());
+    }
+
+    private static EventDto updateDto(Event event, String name) {
+        return EventDto.builder()
+                .name(name)
+                .description(event.getDescription())
+                .beginEnrollmentDateTime(event.getBeginEnrollmentDateTime())
+                .closeEnrollmentDateTime(event.getCloseEnrollmentDateTime())
+                .beginEventDateTime(event.getBeginEventDateTime())
+                .endEventDateTime(event.getEndEventDateTime())
+                .location(event.getLocation())
+                .basePrice(event.getBasePrice())
+                .maxPrice(event.getMaxPrice())
+                .limitOfEnrollment(event.getLimitOfEnrollment())
+                .build();
+    }
+
     private Event generateEvent(int index) {
+        return generateEvent(index, null);
+    }
+
+    private Event generateEvent(int index, Account manager) {
         Event event = Event.builder()
-                .id(index)
                 .name("Event" + index)
                 .description("Test Event")
                 .beginEnrollmentDateTime(LocalDateTime.of(2020, 10, 12, 11, 7))
@@ -206,6 +707,7 @@ public class EventControllerTest extends BaseControllerTest {
                 .maxPrice(0)
                 .limitOfEnrollment(100)
                 .location("강남역 D2 스타텁 팩토리")
+                .manager(manager)
                 .build();
         return eventRepository.save(event);
     }
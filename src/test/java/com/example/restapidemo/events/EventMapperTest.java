@@ -0,0 +1,65 @@
+package com.example.restapidemo.events;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventMapperTest {
+
+    EventMapper eventMapper = new EventMapper();
+
+    @Test
+    void toEvent() {
+        EventDto eventDto = EventDto.builder()
+                .name("Spring")
+                .description("REST API Development with Spring")
+                .beginEnrollmentDateTime(LocalDateTime.of(2020, 10, 12, 11, 7))
+                .closeEnrollmentDateTime(LocalDateTime.of(2020, 10, 13, 11, 7))
+                .beginEventDateTime(LocalDateTime.of(2020, 10, 14, 11, 7))
+                .endEventDateTime(LocalDateTime.of(2020, 10, 15, 11, 7))
+                .basePrice(100)
+                .maxPrice(200)
+                .limitOfEnrollment(100)
+                .location("강남역 D2 스타텁 팩토리")
+                .build();
+
+        Event event = eventMapper.toEvent(eventDto);
+
+        assertNull(event.getId());
+        assertEquals(eventDto.getName(), event.getName());
+        assertEquals(eventDto.getDescription(), event.getDescription());
+        assertEquals(eventDto.getBeginEnrollmentDateTime(), event.getBeginEnrollmentDateTime());
+        assertEquals(eventDto.getCloseEnrollmentDateTime(), event.getCloseEnrollmentDateTime());
+        assertEquals(eventDto.getBeginEventDateTime(), event.getBeginEventDateTime());
+        assertEquals(eventDto.getEndEventDateTime(), event.getEndEventDateTime());
+        assertEquals(eventDto.getLocation(), event.getLocation());
+        assertEquals(eventDto.getBasePrice(), event.getBasePrice());
+        assertEquals(eventDto.getMaxPrice(), event.getMaxPrice());
+        assertEquals(eventDto.getLimitOfEnrollment(), event.getLimitOfEnrollment());
+        assertEquals(EventStatus.DRAFT, event.getEventStatus());
+    }
+
+    @Test
+    void update() {
+        Event event = Event.builder()
+                .id(1)
+                .name("Event")
+                .description("Test Event")
+                .location("강남역 D2 스타텁 팩토리")
+                .eventStatus(EventStatus.PUBLISHED)
+                .build();
+        EventDto eventDto = EventDto.builder()
+                .name("updated events")
+                .build();
+
+        eventMapper.update(eventDto, event);
+
+        assertEquals(1, event.getId());
+        assertEquals("updated events", event.getName());
+        assertNull(event.getDescription());
+        assertNull(event.getLocation());
+        assertEquals(EventStatus.PUBLISHED, event.getEventStatus());
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.restapidemo.events;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * /api/events/search 가 만드는 Specification 을 실제로 실행해 Hibernate 가 생성한 SQL 을 잡고, 그 SQL 의 실행 계획을 확인한다.
+ */
+@SpringBootTest
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:explaindb",
+        "spring.datasource.hikari.jdbc-url=jdbc:h2:mem:explaindb"
+})
+class EventRepositoryTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2020, 10, 1, 0, 0);
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    DataSource dataSource;
+
+    @Test
+    void searchByStatusAndEventDateUsesIndex() throws SQLException {
+        EventSearch search = new EventSearch();
+        search.setEventStatus(EventStatus.PUBLISHED);
+        search.setEventFrom(FROM);
+        String plan = explain(search, EventStatus.PUBLISHED.name(), FROM);
+        assertTrue(plan.contains("IDX_EVENT_STATUS_BEGIN_EVENT"), plan);
+    }
+
+    @Test
+    void searchByStatusAndEnrollmentDateUsesIndex() throws SQLException {
+        EventSearch search = new EventSearch();
+        search.setEventStatus(EventStatus.PUBLISHED);
+        search.setEnrollmentFrom(FROM);
+        String plan = explain(search, EventStatus.PUBLISHED.name(), FROM);
+        assertTrue(plan.contains("IDX_EVENT_STATUS_BEGIN_ENROLLMENT"), plan);
+    }
+
+    @Test
+    void searchByFreeAndOfflineUsesIndex() throws SQLException {
+        EventSearch search = new EventSearch();
+        search.setFree(true);
+        search.setOffline(false);
+        search.setEventFrom(FROM);
+        String plan = explain(search, true, false, FROM);
+        assertTrue(plan.contains("IDX_EVENT_FREE_OFFLINE_BEGIN_EVENT"), plan);
+    }
+
+    @Test
+    void searchByPriceRangeUsesIndex() throws SQLException {
+        EventSearch search = new EventSearch();
+        search.setBasePriceFrom(100);
+        search.setBasePriceTo(1000);
+        // Hibernate 는 Criteria 의 숫자 리터럴을 SQL 에 인라인하므로 바인딩할 파라미터가 없다.
+        String plan = explain(search);
+        assertTrue(plan.contains("IDX_EVENT_BASE_PRICE"), plan);
+    }
+
+    /**
+     * 검색을 실행해 생성된 select 문을 잡고, EventSpecifications 의 조건 순서대로 넘긴 값을 바인딩해 EXPLAIN 한다.
+     */
+    private String explain(EventSearch search, Object... parameters) throws SQLException {
+        STATEMENTS.clear();
+        eventRepository.findAll(EventSpecifications.of(search));
+        assertEquals(1, STATEMENTS.size(), STATEMENTS.toString());
+        String sql = STATEMENTS.get(0);
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("explain " + sql)) {
+            for (int i = 0; i < parameters.length; i++) {
+                statement.setObject(i + 1, parameters[i]);
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                assertTrue(resultSet.next());
+                return resultSet.getString(1);
+            }
+        }
+    }
+
+    @TestConfiguration
+    static class StatementCaptureConfig {
+
+        /**
+         * 기존 문장 검사기(JdbcStatementCounter)를 감싸서 Hibernate 가 준비하는 SQL 을 모은다.
+         */
+        @Bean
+        @Order(Ordered.LOWEST_PRECEDENCE)
+        HibernatePropertiesCustomizer statementCaptureCustomizer() {
+            return hibernateProperties -> {
+                StatementInspector delegate = (StatementInspector) hibernateProperties.get(AvailableSettings.STATEMENT_INSPECTOR);
+                hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, (StatementInspector) sql -> {
+                    String inspected = delegate == null ? sql : delegate.inspect(sql);
+                    STATEMENTS.add(inspected);
+                    return inspected;
+                });
+            };
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.restapidemo.events;
+
+import com.example.restapidemo.common.BaseControllerTest;
+import com.example.restapidemo.common.EntityTags;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@TestPropertySource(properties = {
+        "app.events.coalescing.ttl=10s",
+        "spring.datasource.url=jdbc:h2:mem:coalescingdb",
+        "spring.datasource.hikari.jdbc-url=jdbc:h2:mem:coalescingdb"
+})
+public class EventResponseCacheTest extends BaseControllerTest {
+
+    private static final int REQUESTS = 200;
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("동시_이벤트_조회는_한_번만_읽는다")
+    void getEventConcurrently() throws Exception {
+        Event event = generateEvent();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<String>> futures = new ArrayList<>(REQUESTS);
+            for (int i = 0; i < REQUESTS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return mockMvc.perform(get("/api/events/{id}", event.getId())
+                            .accept(MediaTypes.HAL_JSON))
+                            .andExpect(status().isOk())
+                            .andExpect(header().string(HttpHeaders.CONTENT_TYPE, MediaTypes.HAL_JSON_VALUE))
+                            .andExpect(jsonPath("name").value(event.getName()))
+                            .andExpect(jsonPath("_links.profile").exists())
+                            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+                }));
+            }
+            start.countDown();
+            for (Future<String> future : futures) {
+                assertEquals(EntityTags.of(event.getVersion()), future.get(60, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("이벤트_수정_후_조회_응답_갱신")
+    void updateEventInvalidatesResponse() throws Exception {
+        Event event = generateEvent();
+        mockMvc.perform(get("/api/events/{id}", event.getId()))
+                .andExpect(jsonPath("name").value(event.getName()));
+
+        EventDto updateEvent = EventDto.builder()
+                .name("updated events")
+                .description(event.getDescription())
+                .beginEnrollmentDateTime(event.getBeginEnrollmentDateTime())
+                .closeEnrollmentDateTime(event.getCloseEnrollmentDateTime())
+                .beginEventDateTime(event.getBeginEventDateTime())
+                .endEventDateTime(event.getEndEventDateTime())
+                .limitOfEnrollment(event.getLimitOfEnrollment())
+                .build();
+        mockMvc.perform(put("/api/events/{id}", event.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updateEvent)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/events/{id}", event.getId()))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("name").value("updated events"));
+    }
+
+    @Test
+    @DisplayName("없는_이벤트는_공유하지_않는다")
+    void getEventNotFound() throws Exception {
+        mockMvc.perform(get("/api/events/{id}", 123456))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/events/{id}", 123456))
+                .andExpect(status().isNotFound());
+    }
+
+    private Event generateEvent() {
+        Event event = Event.builder()
+                .name("Coalesced Event")
+                .description("Test Event")
+                .beginEnrollmentDateTime(LocalDateTime.of(2020, 10, 12, 11, 7))
+                .closeEnrollmentDateTime(LocalDateTime.of(2020, 10, 13, 11, 7))
+                .beginEventDateTime(LocalDateTime.of(2020, 10, 14, 11, 7))
+                .endEventDateTime(LocalDateTime.of(2020, 10, 15, 11, 7))
+                .limitOfEnrollment(100)
+                .eventStatus(EventStatus.DRAFT)
+                .build();
+        return eventRepository.save(event);
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.restapidemo.events;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventSearchIndexTest {
+
+    EventSearchIndex eventSearchIndex = new EventSearchIndex(null);
+
+    @Test
+    void tokenize() {
+        assertEquals(List.of("rest", "api", "스프링", "2020"), EventSearchIndex.tokenize("REST-API, 스프링 (2020)"));
+        assertTrue(EventSearchIndex.tokenize(null).isEmpty());
+        assertTrue(EventSearchIndex.tokenize(" ,. ").isEmpty());
+    }
+
+    @Test
+    void searchByPrefixAndRank() {
+        eventSearchIndex.index(1, "Spring REST", "REST API Development with Spring");
+        eventSearchIndex.index(2, "JPA", "Spring Data JPA");
+        eventSearchIndex.index(3, "Kotlin", "coroutines");
+
+        assertEquals(List.of(1, 2), eventSearchIndex.search("spr", 10));
+        assertEquals(List.of(1), eventSearchIndex.search("spring rest", 10));
+        assertEquals(List.of(1), eventSearchIndex.search("spring", 1));
+        assertTrue(eventSearchIndex.search("spring kotlin", 10).isEmpty());
+        assertTrue(eventSearchIndex.search("   ", 10).isEmpty());
+    }
+
+    @Test
+    void exactMatchRanksAbovePrefix() {
+        eventSearchIndex.index(1, "Data", "springboot");
+        eventSearchIndex.index(2, "Data", "spring");
+
+        assertEquals(List.of(2, 1), eventSearchIndex.search("spring", 10));
+    }
+
+    @Test
+    void singleLetterMatchesOnlyWholeTerm() {
+        eventSearchIndex.index(1, "C", "language");
+        eventSearchIndex.index(2, "Clojure", "lisp");
+
+        assertEquals(List.of(1), eventSearchIndex.search("c", 10));
+        assertEquals(List.of(2), eventSearchIndex.search("cl", 10));
+    }
+
+    @Test
+    void prefixExpandsLimitedNumberOfTerms() {
+        for (int id = 1; id <= 100; id++) {
+            eventSearchIndex.index(id, "spring" + (1000 + id), null);
+        }
+
+        assertEquals(64, eventSearchIndex.search("spring", 100).size());
+        assertEquals(List.of(100), eventSearchIndex.search("spring1100", 100));
+    }
+
+    @Test
+    void reindexReplacesPreviousTerms() {
+        eventSearchIndex.index(1, "Spring", "REST API");
+        eventSearchIndex.index(1, "Kotlin", null);
+
+        assertTrue(eventSearchIndex.search("spring", 10).isEmpty());
+        assertEquals(List.of(1), eventSearchIndex.search("kot", 10));
+        assertEquals(1, eventSearchIndex.size());
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.restapidemo.events;
+
+import com.example.restapidemo.common.BaseControllerTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
+import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
+import static org.springframework.restdocs.hypermedia.HypermediaDocumentation.linkWithRel;
+import static org.springframework.restdocs.hypermedia.HypermediaDocumentation.links;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.restdocs.payload.PayloadDocumentation.subsectionWithPath;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:statsdb",
+        "spring.datasource.hikari.jdbc-url=jdbc:h2:mem:statsdb"
+})
+public class EventStatisticsTest extends BaseControllerTest {
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    EventStatistics eventStatistics;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("이벤트_통계_조회")
+    void getEventStats() throws Exception {
+        EventStats before = eventStatistics.snapshot();
+        createEvent(0, 0, "강남역");
+        createEvent(20_000, 50_000, null);
+
+        mockMvc.perform(get("/api/events/stats")
+                .accept(MediaTypes.HAL_JSON))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("total").value(before.getTotal() + 2))
+                .andExpect(jsonPath("byStatus.DRAFT").value(before.getByStatus().get(EventStatus.DRAFT) + 2))
+                .andExpect(jsonPath("free").value(before.getFree() + 1))
+                .andExpect(jsonPath("paid").value(before.getPaid() + 1))
+                .andExpect(jsonPath("offline").value(before.getOffline() + 1))
+                .andExpect(jsonPath("online").value(before.getOnline() + 1))
+                .andExpect(jsonPath("basePrice[2].count").value(before.getBasePrice().get(2).getCount() + 1))
+                .andExpect(jsonPath("maxPrice[3].count").value(before.getMaxPrice().get(3).getCount() + 1))
+                .andDo(document("get-event-stats",
+                        links(
+                                linkWithRel("self").description("link to self"),
+                                linkWithRel("query-events").description("link to query events"),
+                                linkWithRel("profile").description("profile")
+                        ),
+                        requestHeaders(
+                                headerWithName(HttpHeaders.ACCEPT).description("accept header")
+                        ),
+                        responseFields(
+                                fieldWithPath("total").description("number of events"),
+                                subsectionWithPath("byStatus").description("number of events per event status"),
+                                fieldWithPath("free").description("number of free events"),
+                                fieldWithPath("paid").description("number of paid events"),
+                                fieldWithPath("offline").description("number of offline events"),
+                                fieldWithPath("online").description("number of online events"),
+                                subsectionWithPath("basePrice").description("basePrice histogram (min, max inclusive, count)"),
+                                subsectionWithPath("maxPrice").description("maxPrice histogram (min, max inclusive, count)"),
+                                subsectionWithPath("_links").description("links")
+                        )
+                ));
+    }
+
+    @Test
+    @DisplayName("이벤트_수정_차이만_반영해도_다시_집계한_값과_같다")
+    void updateEventAppliesDelta() throws Exception {
+        Event event = eventRepository.findById(createEvent(0, 0, null)).orElseThrow();
+        EventDto updateEvent = EventDto.builder()
+                .name(event.getName())
+                .description(event.getDescription())
+                .beginEnrollmentDateTime(event.getBeginEnrollmentDateTime())
+                .closeEnrollmentDateTime(event.getCloseEnrollmentDateTime())
+                .beginEventDateTime(event.getBeginEventDateTime())
+                .endEventDateTime(event.getEndEventDateTime())
+                .basePrice(400_000)
+                .maxPrice(500_000)
+                .limitOfEnrollment(event.getLimitOfEnrollment())
+                .location("강남역")
+                .build();
+        mockMvc.perform(put("/api/events/{id}", event.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updateEvent)))
+                .andExpect(status().isOk());
+
+        EventStatistics rebuilt = new EventStatistics(eventRepository);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> rebuilt.rebuild());
+        assertEquals(objectMapper.writeValueAsString(rebuilt.snapshot()),
+                objectMapper.writeValueAsString(eventStatistics.snapshot()));
+    }
+
+    @Test
+    @DisplayName("가격_구간_경계")
+    void bucketOf() {
+        assertEquals(0, EventStatistics.bucketOf(0));
+        assertEquals(1, EventStatistics.bucketOf(1));
+        assertEquals(1, EventStatistics.bucketOf(10_000));
+        assertEquals(2, EventStatistics.bucketOf(10_001));
+        assertEquals(EventStatistics.PRICE_BUCKET_BOUNDS.length, EventStatistics.bucketOf(Integer.MAX_VALUE));
+    }
+
+    private Integer createEvent(int basePrice, int maxPrice, String location) throws Exception {
+        EventDto eventDto = EventDto.builder()
+                .name("Spring")
+                .description("REST API Development with Spring")
+                .beginEnrollmentDateTime(LocalDateTime.of(2020, 10, 12, 11, 7))
+                .closeEnrollmentDateTime(LocalDateTime.of(2020, 10, 13, 11, 7))
+                .beginEventDateTime(LocalDateTime.of(2020, 10, 14, 11, 7))
+                .endEventDateTime(LocalDateTime.of(2020, 10, 15, 11, 7))
+                .basePrice(basePrice)
+                .maxPrice(maxPrice)
+                .limitOfEnrollment(100)
+                .location(location)
+                .build();
+        String response = mockMvc.perform(post("/api/events")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(eventDto)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(response).get("id").asInt();
+    }
+}
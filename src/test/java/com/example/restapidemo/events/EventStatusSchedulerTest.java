@@ -0,0 +1,88 @@
+package com.example.restapidemo.events;
+
+import com.example.restapidemo.common.BaseControllerTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@TestPropertySource(properties = {
+        "app.event-status.tick=50ms",
+        "spring.datasource.url=jdbc:h2:mem:statusdb",
+        "spring.datasource.hikari.jdbc-url=jdbc:h2:mem:statusdb"
+})
+public class EventStatusSchedulerTest extends BaseControllerTest {
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    EventStatusScheduler eventStatusScheduler;
+
+    @Test
+    @DisplayName("신청_시작_일시에_BEGAN_ENROLLMENT_로_전이하고_마감_일시_수정시_다시_예약")
+    void transitionsAndReschedulesOnUpdate() throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        Event event = eventRepository.save(Event.builder()
+                .name("Spring")
+                .description("REST API Development with Spring")
+                .beginEnrollmentDateTime(now.plusNanos(200_000_000))
+                .closeEnrollmentDateTime(now.plusDays(1))
+                .beginEventDateTime(now.plusDays(2))
+                .endEventDateTime(now.plusDays(3))
+                .limitOfEnrollment(100)
+                .eventStatus(EventStatus.PUBLISHED)
+                .build());
+        eventStatusScheduler.schedule(event);
+        awaitStatus(event.getId(), EventStatus.BEGAN_ENROLLMENT);
+
+        EventDto eventDto = EventDto.builder()
+                .name(event.getName())
+                .description(event.getDescription())
+                .beginEnrollmentDateTime(event.getBeginEnrollmentDateTime())
+                .closeEnrollmentDateTime(LocalDateTime.now().plusNanos(200_000_000))
+                .beginEventDateTime(event.getBeginEventDateTime())
+                .endEventDateTime(event.getEndEventDateTime())
+                .limitOfEnrollment(event.getLimitOfEnrollment())
+                .build();
+        mockMvc.perform(put("/api/events/{id}", event.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(eventDto)))
+                .andExpect(status().isOk());
+        awaitStatus(event.getId(), EventStatus.CLOSED_ENROLLMENT);
+    }
+
+    @Test
+    @DisplayName("DRAFT_이벤트는_전이하지_않음")
+    void skipsDrafts() throws Exception {
+        Event event = eventRepository.save(Event.builder()
+                .name("Draft")
+                .beginEnrollmentDateTime(LocalDateTime.now().minusDays(1))
+                .closeEnrollmentDateTime(LocalDateTime.now().plusDays(1))
+                .eventStatus(EventStatus.DRAFT)
+                .build());
+        eventStatusScheduler.schedule(event);
+
+        Thread.sleep(300);
+        assertEquals(EventStatus.DRAFT, eventRepository.findById(event.getId()).orElseThrow().getEventStatus());
+    }
+
+    private void awaitStatus(Integer id, EventStatus expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (System.currentTimeMillis() < deadline) {
+            if (eventRepository.findById(id).orElseThrow().getEventStatus() == expected) {
+                return;
+            }
+            Thread.sleep(50);
+        }
+        fail("event " + id + " did not reach " + expected);
+    }
+}
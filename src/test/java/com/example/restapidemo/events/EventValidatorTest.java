@@ -0,0 +1,87 @@
+package com.example.restapidemo.events;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventValidatorTest {
+
+    private final EventValidator eventValidator = new EventValidator();
+
+    @Test
+    void validEvent() {
+        Errors errors = validate(validDto());
+
+        assertFalse(errors.hasErrors());
+    }
+
+    @Test
+    void missingValuesRejectedWithoutComparingDates() {
+        Errors errors = validate(EventDto.builder().name("Spring").basePrice(-1).build());
+
+        assertEquals(List.of("description", "beginEnrollmentDateTime", "closeEnrollmentDateTime",
+                "beginEventDateTime", "endEventDateTime", "basePrice"), fields(errors));
+        assertEquals("NotNull", errors.getFieldError("endEventDateTime").getCode());
+        assertEquals("Min", errors.getFieldError("basePrice").getCode());
+    }
+
+    @Test
+    void priceAndDateRules() {
+        EventDto eventDto = validDto();
+        eventDto.setBasePrice(10000);
+        eventDto.setMaxPrice(200);
+        eventDto.setEndEventDateTime(LocalDateTime.of(2020, 8, 15, 11, 7));
+
+        Errors errors = validate(eventDto);
+
+        assertEquals(List.of("basePrice", "maxPrice", "endEventDateTime"), fields(errors));
+        assertEquals("invalid.endEventDateTime", errors.getFieldError("endEventDateTime").getCode());
+    }
+
+    @Test
+    void changedFieldsOnly() {
+        EventDto eventDto = validDto();
+        eventDto.setDescription(null);
+        eventDto.setBasePrice(10000);
+        eventDto.setMaxPrice(200);
+        eventDto.setEndEventDateTime(LocalDateTime.of(2020, 8, 15, 11, 7));
+
+        Errors errors = new BeanPropertyBindingResult(eventDto, "eventDto");
+        eventValidator.validate(eventDto, errors, List.of("endEventDateTime", "location"));
+
+        assertEquals(List.of("endEventDateTime"), fields(errors));
+    }
+
+    private Errors validate(EventDto eventDto) {
+        Errors errors = new BeanPropertyBindingResult(eventDto, "eventDto");
+        eventValidator.validate(eventDto, errors);
+        return errors;
+    }
+
+    private static List<String> fields(Errors errors) {
+        return errors.getFieldErrors().stream()
+                .map(FieldError::getField)
+                .collect(Collectors.toList());
+    }
+
+    private static EventDto validDto() {
+        return EventDto.builder()
+                .name("Spring")
+                .description("REST API Development with Spring")
+                .beginEnrollmentDateTime(LocalDateTime.of(2020, 10, 12, 11, 7))
+                .closeEnrollmentDateTime(LocalDateTime.of(2020, 10, 13, 11, 7))
+                .beginEventDateTime(LocalDateTime.of(2020, 10, 14, 11, 7))
+                .endEventDateTime(LocalDateTime.of(2020, 10, 15, 11, 7))
+                .basePrice(100)
+                .maxPrice(200)
+                .limitOfEnrollment(100)
+                .build();
+    }
+}
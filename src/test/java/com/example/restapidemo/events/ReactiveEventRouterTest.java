@@ -0,0 +1,159 @@
+package com.example.restapidemo.events;
+
+import com.example.restapidemo.common.BaseControllerTest;
+import com.example.restapidemo.config.ReactiveEventServer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+@TestPropertySource(properties = {
+        "app.reactive.enabled=true",
+        "spring.datasource.url=jdbc:h2:mem:reactivedb",
+        "spring.datasource.hikari.jdbc-url=jdbc:h2:mem:reactivedb",
+        "app.reactive.r2dbc.url=r2dbc:h2:mem:///reactivedb"
+})
+public class ReactiveEventRouterTest extends BaseControllerTest {
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    ReactiveEventServer reactiveEventServer;
+
+    WebTestClient webTestClient;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository.deleteAll();
+        webTestClient = WebTestClient.bindToServer()
+                .baseUrl("http://localhost:" + reactiveEventServer.getPort())
+                .build();
+    }
+
+    @Test
+    @DisplayName("리액티브_이벤트_조회_MVC_와_같은_본문")
+    void getEvent() throws Exception {
+        Event event = generateEvent(1);
+
+        byte[] reactive = webTestClient.get().uri("/api/events/{id}", event.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaTypes.HAL_JSON)
+                .expectBody()
+                .jsonPath("_links.self.href").isEqualTo("http://localhost:" + reactiveEventServer.getPort() + "/api/events/" + event.getId())
+                .jsonPath("_links.profile").exists()
+                .returnResult()
+                .getResponseBody();
+        String servlet = mockMvc.perform(get("/api/events/{id}", event.getId()))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        assertEquals(withoutLinks(objectMapper.readTree(servlet)), withoutLinks(objectMapper.readTree(reactive)));
+    }
+
+    @Test
+    void getEventNotFound() {
+        webTestClient.get().uri("/api/events/{id}", 12345)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    @DisplayName("리액티브_이벤트_목록_조회")
+    void queryEvents() {
+        IntStream.range(0, 30).forEach(this::generateEvent);
+
+        webTestClient.get().uri("/api/events?page=1&size=10")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("_embedded.eventList.length()").isEqualTo(10)
+                .jsonPath("_embedded.eventList[0].name").isEqualTo("Event10")
+                .jsonPath("_embedded.eventList[0]._links.self").exists()
+                .jsonPath("_links.self.href").value(href -> assertEquals(
+                        "http://localhost:" + reactiveEventServer.getPort() + "/api/events?page=1&size=10", href))
+                .jsonPath("_links.first").exists()
+                .jsonPath("_links.prev").exists()
+                .jsonPath("_links.next").exists()
+                .jsonPath("_links.last").exists()
+                .jsonPath("_links.profile").exists()
+                .jsonPath("page.size").isEqualTo(10)
+                .jsonPath("page.number").isEqualTo(1)
+                .jsonPath("page.totalElements").isEqualTo(30)
+                .jsonPath("page.totalPages").isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("리액티브_이벤트_목록_MVC_와_같은_본문")
+    void queryEventsMatchesServlet() throws Exception {
+        IntStream.range(0, 5).forEach(this::generateEvent);
+
+        byte[] reactive = webTestClient.get().uri("/api/events?page=0&size=3")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .returnResult()
+                .getResponseBody();
+        String servlet = mockMvc.perform(get("/api/events").param("page", "0").param("size", "3").param("sort", "id,ASC"))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        JsonNode reactiveJson = objectMapper.readTree(reactive);
+        JsonNode servletJson = objectMapper.readTree(servlet);
+        assertEquals(servletJson.get("page"), reactiveJson.get("page"));
+        assertEquals(withoutLinks(servletJson.get("_embedded").get("eventList").get(0)),
+                withoutLinks(reactiveJson.get("_embedded").get("eventList").get(0)));
+    }
+
+    @Test
+    void queryEventsEmptyPage() {
+        webTestClient.get().uri("/api/events?page=0&size=10")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("_embedded").doesNotExist()
+                .jsonPath("_links.self").exists()
+                .jsonPath("page.totalElements").isEqualTo(0);
+    }
+
+    @Test
+    void queryEventsWithBadPageParameter() {
+        webTestClient.get().uri("/api/events?page=abc&size=10")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    private JsonNode withoutLinks(JsonNode json) {
+        ((ObjectNode) json).remove("_links");
+        return json;
+    }
+
+    private Event generateEvent(int index) {
+        Event event = Event.builder()
+                .name("Event" + index)
+                .description("Test Event")
+                .beginEnrollmentDateTime(LocalDateTime.of(2020, 10, 12, 11, 7))
+                .closeEnrollmentDateTime(LocalDateTime.of(2020, 10, 13, 11, 7))
+                .beginEventDateTime(LocalDateTime.of(2020, 10, 14, 11, 7))
+                .endEventDateTime(LocalDateTime.of(2020, 10, 15, 11, 7))
+                .basePrice(100)
+                .maxPrice(200)
+                .limitOfEnrollment(100)
+                .location("강남역 D2 스타텁 팩토리")
+                .eventStatus(EventStatus.DRAFT)
+                .build();
+        event.update();
+        return eventRepository.save(event);
+    }
+}